@@ -1,16 +1,22 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.DataFileFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -23,13 +29,21 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ArchivedPersonKeys;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundSaver;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.ImportingAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WatchingAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -45,6 +59,8 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundSaver backgroundSaver;
+    protected WatchingAddressBookStorage watchingStorage; // null when the data file is not watched
     protected Model model;
     protected Config config;
     protected List<String> startupWarnings = new ArrayList<>();
@@ -60,16 +76,59 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        if (userPrefs.getStorageSettings().isExternalChangeWatchEnabled()) {
+            watchingStorage = new WatchingAddressBookStorage(addressBookStorage);
+            addressBookStorage = watchingStorage;
+        }
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        initArchivedPersonKeys(storage, model);
 
-        logic = new LogicManager(model, storage);
+        backgroundSaver = new BackgroundSaver(storage, userPrefs.getStorageSettings().getSaveDebounceMillis());
+        logic = new LogicManager(model, storage, backgroundSaver);
 
         ui = new UiManager(logic, startupWarnings);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the data file in {@code userPrefs}, kept in the format chosen by its
+     * storage settings and journaled if they enable the journal. The newest data file last kept in another format is
+     * imported if it is newer.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        StorageSettings storageSettings = userPrefs.getStorageSettings();
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath, storageSettings);
+        AddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getSnapshotFilePath(jsonFilePath), storageSettings);
+        Path manifestFilePath = SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath);
+
+        if (storageSettings.getDataFileFormat() == DataFileFormat.SEGMENTED) {
+            logger.info("Using segmented storage for " + manifestFilePath);
+            return new ImportingAddressBookStorage(new SegmentedAddressBookStorage(manifestFilePath, storageSettings),
+                    jsonStorage, binaryStorage);
+        }
+
+        List<AddressBookStorage> importedStorages = new ArrayList<>();
+        if (Files.exists(manifestFilePath)) {
+            // Segments kept before are only read, to be imported
+            importedStorages.add(new SegmentedAddressBookStorage(manifestFilePath, storageSettings));
+        }
+        if (storageSettings.getDataFileFormat() == DataFileFormat.BINARY) {
+            logger.info("Using binary snapshot storage for " + binaryStorage.getAddressBookFilePath());
+            importedStorages.add(jsonStorage);
+            return new ImportingAddressBookStorage(binaryStorage, importedStorages.toArray(AddressBookStorage[]::new));
+        }
+        if (storageSettings.isJournalEnabled()) {
+            logger.info("Using journaled storage for " + jsonFilePath);
+            jsonStorage = new JournaledAddressBookStorage(jsonFilePath, storageSettings);
+        }
+        importedStorages.add(binaryStorage);
+        return new ImportingAddressBookStorage(jsonStorage, importedStorages.toArray(AddressBookStorage[]::new));
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -100,6 +159,36 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Gives {@code model} the phone numbers and emails of the persons archived in {@code storage}, so that they stay
+     * taken. Persons still in the address book with both the phone number and email of an archived person were
+     * archived just before the app stopped without saving, so they are removed from it.
+     */
+    private void initArchivedPersonKeys(Storage storage, Model model) {
+        ArchivedPersonKeys keys;
+        try {
+            keys = storage.readArchivedPersonKeys();
+        } catch (DataLoadingException e) {
+            String warning = "Archive Error:\n"
+                    + "Could not load " + storage.getArchiveFilePath() + " (may be corrupted or invalid).\n"
+                    + "Archived contacts cannot be found, and their phone numbers and emails may be reused.";
+            logger.warning(warning);
+            startupWarnings.add(warning);
+            return;
+        }
+        // Archived persons keep their ids, which new persons must not take
+        Person.reserveIdsUpTo(keys.getMaxId());
+        model.setArchivedPersonKeys(keys);
+
+        List<Person> archivedPersons = model.getAddressBook().getPersonList().stream()
+                .filter(person -> keys.containsPhone(person.getPhone()) && keys.containsEmail(person.getEmail()))
+                .toList();
+        if (!archivedPersons.isEmpty()) {
+            logger.info("Removing " + archivedPersons.size() + " archived persons from the address book");
+            model.deletePersons(archivedPersons);
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -165,6 +254,12 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
+        if (!initializedPrefs.getStorageSettings().isValid()) {
+            logger.warning("Storage settings in " + prefsFilePath + " are invalid: "
+                    + StorageSettings.MESSAGE_CONSTRAINTS + " Using default storage settings.");
+            initializedPrefs.setStorageSettings(new StorageSettings());
+        }
+
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
             storage.saveUserPrefs(initializedPrefs);
@@ -179,15 +274,77 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        startWatchingDataFile();
+    }
+
+    /**
+     * Starts watching the data file, if it is to be watched, for changes made outside the app, which are applied on
+     * the JavaFX application thread as the commands are.
+     */
+    private void startWatchingDataFile() {
+        if (watchingStorage == null) {
+            return;
+        }
+        try {
+            watchingStorage.startWatching(changes -> Platform.runLater(() -> logic.applyExternalChanges(changes)));
+        } catch (IOException e) {
+            logger.warning("Failed to watch the data file for changes made outside the app "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Backs up the address book if automatic backups are on and the newest backup is older than their interval, then
+     * deletes the oldest backups beyond the number kept.
+     */
+    private void backUpAddressBookIfDue() {
+        StorageSettings storageSettings = model.getUserPrefs().getStorageSettings();
+        if (storageSettings.getAutoBackupIntervalHours() <= 0) {
+            return;
+        }
+        try {
+            Optional<Instant> latestBackupTime = storage.getLatestBackupTime();
+            Instant dueTime = Instant.now().minus(Duration.ofHours(storageSettings.getAutoBackupIntervalHours()));
+            if (latestBackupTime.isPresent() && latestBackupTime.get().isAfter(dueTime)) {
+                return;
+            }
+            logger.info("Backing up address book to " + storage.getBackupDirectoryPath());
+            storage.backUpAddressBook(model.getAddressBook());
+            if (storageSettings.getBackupRetentionCount() > 0) {
+                storage.pruneBackups(storageSettings.getBackupRetentionCount());
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to back up address book " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        if (logic != null) {
+            logic.logSaveSummary();
+        }
+        if (watchingStorage != null) {
+            try {
+                watchingStorage.close();
+            } catch (IOException e) {
+                logger.warning("Failed to stop watching the data file " + StringUtil.getDetails(e));
+            }
+        }
+        if (backgroundSaver != null) {
+            try {
+                backgroundSaver.close();
+            } catch (IOException e) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            }
+        }
+        if (model != null) {
+            backUpAddressBookIfDue();
+            try {
+                storage.saveUserPrefs(model.getUserPrefs());
+            } catch (IOException e) {
+                logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            }
         }
     }
 }
@@ -0,0 +1,378 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings of the address book data file.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    /**
+     * When records appended to the journal are forced to the storage device.
+     */
+    public enum JournalSyncPolicy {
+        /** After every save, so that an acknowledged command survives a power loss. */
+        ALWAYS,
+        /** Whenever the operating system flushes its buffers, which only protects against the app crashing. */
+        NEVER
+    }
+
+    /**
+     * The format the address book data file is kept in.
+     */
+    public enum DataFileFormat {
+        /** The human-readable json file at the address book file path. */
+        JSON,
+        /** A compact binary snapshot next to it, with the same name but the extension {@code .bin}. */
+        BINARY,
+        /**
+         * Json segment files holding a share of the persons each, plus a manifest, in a directory next to it with the
+         * same name but the extension {@code .segments}.
+         */
+        SEGMENTED
+    }
+
+    /**
+     * Which version of a person is kept when the person was changed both in the data file outside the app and in the
+     * app since the data file was last saved or reloaded.
+     */
+    public enum ExternalChangePolicy {
+        /** The version in the app, which the next save writes over the data file. */
+        KEEP_LOCAL,
+        /** The version in the data file, which discards the unsaved change made in the app. */
+        KEEP_EXTERNAL
+    }
+
+    public static final String MESSAGE_CONSTRAINTS = "The journal checkpoint interval and the segment count should be "
+            + "positive, the save debounce delay should not be negative, and no setting should be null.";
+
+    private static final int DEFAULT_JOURNAL_CHECKPOINT_INTERVAL = 1000;
+    private static final long DEFAULT_SAVE_DEBOUNCE_MILLIS = 100;
+    private static final int DEFAULT_SEGMENT_COUNT = 16;
+    private static final int DEFAULT_AUTO_BACKUP_INTERVAL_HOURS = 24;
+    private static final int DEFAULT_BACKUP_RETENTION_COUNT = 7;
+
+    private final boolean journalEnabled;
+    private final JournalSyncPolicy journalSyncPolicy;
+    private final int journalCheckpointInterval;
+    private final long saveDebounceMillis;
+    private final boolean backupEnabled;
+    private final boolean compactJsonEnabled;
+    private final DataFileFormat dataFileFormat;
+    private final boolean mappedSnapshotEnabled;
+    private final boolean gzipEnabled;
+    private final int segmentCount;
+    private final boolean persistedIndexesEnabled;
+    private final boolean externalChangeWatchEnabled;
+    private final ExternalChangePolicy externalChangePolicy;
+    private final int autoBackupIntervalHours;
+    private final int backupRetentionCount;
+
+    /**
+     * Constructs a {@code StorageSettings} with the default settings.
+     * The whole data file is rewritten on every save.
+     */
+    public StorageSettings() {
+        journalEnabled = false;
+        journalSyncPolicy = JournalSyncPolicy.ALWAYS;
+        journalCheckpointInterval = DEFAULT_JOURNAL_CHECKPOINT_INTERVAL;
+        saveDebounceMillis = DEFAULT_SAVE_DEBOUNCE_MILLIS;
+        backupEnabled = false;
+        compactJsonEnabled = false;
+        dataFileFormat = DataFileFormat.JSON;
+        mappedSnapshotEnabled = false;
+        gzipEnabled = false;
+        segmentCount = DEFAULT_SEGMENT_COUNT;
+        persistedIndexesEnabled = false;
+        externalChangeWatchEnabled = true;
+        externalChangePolicy = ExternalChangePolicy.KEEP_LOCAL;
+        autoBackupIntervalHours = DEFAULT_AUTO_BACKUP_INTERVAL_HOURS;
+        backupRetentionCount = DEFAULT_BACKUP_RETENTION_COUNT;
+    }
+
+    private StorageSettings(boolean journalEnabled, JournalSyncPolicy journalSyncPolicy,
+            int journalCheckpointInterval, long saveDebounceMillis, boolean backupEnabled, boolean compactJsonEnabled,
+            DataFileFormat dataFileFormat, boolean mappedSnapshotEnabled, boolean gzipEnabled, int segmentCount,
+            boolean persistedIndexesEnabled, boolean externalChangeWatchEnabled,
+            ExternalChangePolicy externalChangePolicy, int autoBackupIntervalHours, int backupRetentionCount) {
+        this.journalEnabled = journalEnabled;
+        this.journalSyncPolicy = journalSyncPolicy;
+        this.journalCheckpointInterval = journalCheckpointInterval;
+        this.saveDebounceMillis = saveDebounceMillis;
+        this.backupEnabled = backupEnabled;
+        this.compactJsonEnabled = compactJsonEnabled;
+        this.dataFileFormat = dataFileFormat;
+        this.mappedSnapshotEnabled = mappedSnapshotEnabled;
+        this.gzipEnabled = gzipEnabled;
+        this.segmentCount = segmentCount;
+        this.persistedIndexesEnabled = persistedIndexesEnabled;
+        this.externalChangeWatchEnabled = externalChangeWatchEnabled;
+        this.externalChangePolicy = externalChangePolicy;
+        this.autoBackupIntervalHours = autoBackupIntervalHours;
+        this.backupRetentionCount = backupRetentionCount;
+    }
+
+    /**
+     * Returns a copy of these settings with the specified journal settings.
+     * {@code journalCheckpointInterval} is the number of journal records after which the data file is rewritten.
+     */
+    public StorageSettings withJournal(boolean journalEnabled, JournalSyncPolicy journalSyncPolicy,
+            int journalCheckpointInterval) {
+        requireNonNull(journalSyncPolicy);
+        checkArgument(journalCheckpointInterval > 0, MESSAGE_CONSTRAINTS);
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns a copy of these settings that waits {@code saveDebounceMillis} after a change before saving it,
+     * so that the changes made meanwhile are saved together.
+     */
+    public StorageSettings withSaveDebounceMillis(long saveDebounceMillis) {
+        checkArgument(saveDebounceMillis >= 0, MESSAGE_CONSTRAINTS);
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns a copy of these settings that keeps the previous data file as a backup whenever it is rewritten
+     * if {@code backupEnabled} is true.
+     */
+    public StorageSettings withBackupEnabled(boolean backupEnabled) {
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns a copy of these settings that writes the data file on a single line instead of pretty-printing it
+     * if {@code compactJsonEnabled} is true.
+     */
+    public StorageSettings withCompactJsonEnabled(boolean compactJsonEnabled) {
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns a copy of these settings that keeps the data file in {@code dataFileFormat}.
+     */
+    public StorageSettings withDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns a copy of these settings that memory-maps the binary snapshot and decodes each person only when it is
+     * first accessed if {@code mappedSnapshotEnabled} is true. It has no effect on the json data file.
+     */
+    public StorageSettings withMappedSnapshotEnabled(boolean mappedSnapshotEnabled) {
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns a copy of these settings that gzip-compresses the json data file whatever its name if
+     * {@code gzipEnabled} is true. A data file whose name ends with {@code .gz} is compressed either way.
+     */
+    public StorageSettings withGzipEnabled(boolean gzipEnabled) {
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns a copy of these settings that spreads the persons over {@code segmentCount} segment files when the data
+     * file format is {@link DataFileFormat#SEGMENTED}.
+     */
+    public StorageSettings withSegmentCount(int segmentCount) {
+        checkArgument(segmentCount > 0, MESSAGE_CONSTRAINTS);
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns a copy of these settings that keeps the secondary indexes over the persons in a file next to the binary
+     * snapshot if {@code persistedIndexesEnabled} is true, so that they are not built from the persons on load.
+     */
+    public StorageSettings withPersistedIndexesEnabled(boolean persistedIndexesEnabled) {
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns a copy of these settings that watches the data file for changes made outside the app and reloads the
+     * changed persons if {@code externalChangeWatchEnabled} is true, keeping the version chosen by
+     * {@code externalChangePolicy} of a person also changed in the app since the last save.
+     */
+    public StorageSettings withExternalChangeWatch(boolean externalChangeWatchEnabled,
+            ExternalChangePolicy externalChangePolicy) {
+        requireNonNull(externalChangePolicy);
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns a copy of these settings that backs up the address book as a new generation when the app exits, if the
+     * newest generation is at least {@code autoBackupIntervalHours} old, which turns automatic backups off when not
+     * positive. Every backup then deletes all but the newest {@code backupRetentionCount} generations.
+     */
+    public StorageSettings withAutoBackup(int autoBackupIntervalHours, int backupRetentionCount) {
+        return new StorageSettings(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    /**
+     * Returns true if these settings satisfy {@link #MESSAGE_CONSTRAINTS}. Settings read from the preferences file
+     * are not checked as they are read, so they may not.
+     */
+    public boolean isValid() {
+        return journalSyncPolicy != null && journalCheckpointInterval > 0 && saveDebounceMillis >= 0
+                && dataFileFormat != null && segmentCount > 0 && externalChangePolicy != null;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public JournalSyncPolicy getJournalSyncPolicy() {
+        return journalSyncPolicy;
+    }
+
+    public int getJournalCheckpointInterval() {
+        return journalCheckpointInterval;
+    }
+
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public boolean isBackupEnabled() {
+        return backupEnabled;
+    }
+
+    public boolean isCompactJsonEnabled() {
+        return compactJsonEnabled;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public boolean isMappedSnapshotEnabled() {
+        return mappedSnapshotEnabled;
+    }
+
+    public boolean isGzipEnabled() {
+        return gzipEnabled;
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    public boolean isPersistedIndexesEnabled() {
+        return persistedIndexesEnabled;
+    }
+
+    public boolean isExternalChangeWatchEnabled() {
+        return externalChangeWatchEnabled;
+    }
+
+    public ExternalChangePolicy getExternalChangePolicy() {
+        return externalChangePolicy;
+    }
+
+    public int getAutoBackupIntervalHours() {
+        return autoBackupIntervalHours;
+    }
+
+    public int getBackupRetentionCount() {
+        return backupRetentionCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StorageSettings)) {
+            return false;
+        }
+
+        StorageSettings otherStorageSettings = (StorageSettings) other;
+        return journalEnabled == otherStorageSettings.journalEnabled
+                && journalSyncPolicy == otherStorageSettings.journalSyncPolicy
+                && journalCheckpointInterval == otherStorageSettings.journalCheckpointInterval
+                && saveDebounceMillis == otherStorageSettings.saveDebounceMillis
+                && backupEnabled == otherStorageSettings.backupEnabled
+                && compactJsonEnabled == otherStorageSettings.compactJsonEnabled
+                && dataFileFormat == otherStorageSettings.dataFileFormat
+                && mappedSnapshotEnabled == otherStorageSettings.mappedSnapshotEnabled
+                && gzipEnabled == otherStorageSettings.gzipEnabled
+                && segmentCount == otherStorageSettings.segmentCount
+                && persistedIndexesEnabled == otherStorageSettings.persistedIndexesEnabled
+                && externalChangeWatchEnabled == otherStorageSettings.externalChangeWatchEnabled
+                && externalChangePolicy == otherStorageSettings.externalChangePolicy
+                && autoBackupIntervalHours == otherStorageSettings.autoBackupIntervalHours
+                && backupRetentionCount == otherStorageSettings.backupRetentionCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(journalEnabled, journalSyncPolicy, journalCheckpointInterval, saveDebounceMillis,
+                backupEnabled, compactJsonEnabled, dataFileFormat, mappedSnapshotEnabled, gzipEnabled, segmentCount,
+                persistedIndexesEnabled, externalChangeWatchEnabled, externalChangePolicy, autoBackupIntervalHours,
+                backupRetentionCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("journalEnabled", journalEnabled)
+                .add("journalSyncPolicy", journalSyncPolicy)
+                .add("journalCheckpointInterval", journalCheckpointInterval)
+                .add("saveDebounceMillis", saveDebounceMillis)
+                .add("backupEnabled", backupEnabled)
+                .add("compactJsonEnabled", compactJsonEnabled)
+                .add("dataFileFormat", dataFileFormat)
+                .add("mappedSnapshotEnabled", mappedSnapshotEnabled)
+                .add("gzipEnabled", gzipEnabled)
+                .add("segmentCount", segmentCount)
+                .add("persistedIndexesEnabled", persistedIndexesEnabled)
+                .add("externalChangeWatchEnabled", externalChangeWatchEnabled)
+                .add("externalChangePolicy", externalChangePolicy)
+                .add("autoBackupIntervalHours", autoBackupIntervalHours)
+                .add("backupRetentionCount", backupRetentionCount)
+                .toString();
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes files so that a crash at any point leaves either the old or the new content in place, never a mix.
+ * The content is written to a temporary file next to the target, forced to the storage device, and then renamed
+ * over the target, after which the rename itself is forced to the storage device. Optionally, the previous content
+ * is kept as a backup file next to the target, a hard link to the replaced file where the file system allows it so
+ * that it is not copied.
+ */
+public class AtomicFileWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private final boolean keepsBackup;
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Creates a writer that keeps the previous content of each file it replaces if {@code keepsBackup} is true.
+     */
+    public AtomicFileWriter(boolean keepsBackup) {
+        this.keepsBackup = keepsBackup;
+    }
+
+    /**
+     * Returns the path of the backup kept of the file at {@code file}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the temporary file used while replacing the file at {@code file}.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    public boolean keepsBackup() {
+        return keepsBackup;
+    }
+
+    /**
+     * Replaces the content of {@code file} with {@code content}, creating the file and its missing parent
+     * directories if needed.
+     *
+     * @throws IOException if the file could not be written, in which case its old content is left in place and no
+     *     temporary file is left next to it.
+     */
+    public void write(Path file, String content) throws IOException {
+        requireNonNull(content);
+        write(file, out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code contentWriter} writes, creating the file and its missing
+     * parent directories if needed. The content is streamed to the file through a fixed-size buffer.
+     *
+     * @throws IOException if the file could not be written, in which case its old content is left in place and no
+     *     temporary file is left next to it.
+     */
+    public void write(Path file, ContentWriter contentWriter) throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+
+        FileUtil.createParentDirsOfFile(file);
+        Path tempFile = getTempFilePath(file);
+        try {
+            writeAndMove(tempFile, file, contentWriter);
+        } catch (IOException | RuntimeException e) {
+            // A failed write must not leave the partly written temporary file next to the file
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    private void writeAndMove(Path tempFile, Path file, ContentWriter contentWriter) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = openOutputStream(channel);
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+
+        if (keepsBackup && Files.exists(file)) {
+            backUp(file);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Keeps the current content of {@code file} as its backup. The backup is a second link to the file, which the
+     * rename replacing the file leaves in place, or a copy of it where hard links are not supported.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backupFile = getBackupFilePath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just renamed into it, to the storage device, so that the
+     * rename survives a power loss. Directories cannot be opened on some platforms, such as Windows, where this is
+     * skipped.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The rename is in place, only not yet known to be durable
+        }
+    }
+
+    /**
+     * Returns a buffered stream writing to {@code channel}.
+     */
+    protected OutputStream openOutputStream(FileChannel channel) {
+        return new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+    }
+}
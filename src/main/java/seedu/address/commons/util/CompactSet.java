@@ -0,0 +1,144 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set sized for the handful of elements a field such as a person's tags usually holds.
+ * Empty sets share one instance, small sets are a bare array searched linearly, and only sets larger than
+ * {@link #LINEAR_SEARCH_LIMIT} also build a hash lookup. The hash code is computed once.
+ * Iteration follows the order of the collection the set was copied from.
+ *
+ * @param <E> the element type, which must be immutable.
+ */
+public final class CompactSet<E> extends AbstractSet<E> {
+
+    /** Largest size for which {@link #contains(Object)} scans the elements instead of hashing. */
+    public static final int LINEAR_SEARCH_LIMIT = 8;
+
+    private static final CompactSet<?> EMPTY = new CompactSet<>(new Object[0]);
+
+    private final Object[] elements;
+    private final Set<Object> lookup; // null for small sets
+    private final int hashCode;
+
+    private CompactSet(Object[] elements) {
+        this.elements = elements;
+        this.lookup = elements.length > LINEAR_SEARCH_LIMIT ? new HashSet<>(this) : null;
+
+        int hash = 0;
+        for (Object element : elements) {
+            hash += element.hashCode();
+        }
+        this.hashCode = hash;
+    }
+
+    /**
+     * Returns an immutable set holding the distinct elements of {@code elements}, which must not contain null.
+     * Returns {@code elements} itself if it is already a {@code CompactSet}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Set<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof CompactSet) {
+            return (CompactSet<E>) elements;
+        }
+        if (elements.isEmpty()) {
+            return (CompactSet<E>) EMPTY;
+        }
+
+        Collection<? extends E> distinct = elements instanceof Set ? elements : new LinkedHashSet<>(elements);
+        Object[] array = distinct.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return new CompactSet<>(array);
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (lookup != null) {
+            return lookup.contains(o);
+        }
+        for (Object element : elements) {
+            if (element == o || element.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
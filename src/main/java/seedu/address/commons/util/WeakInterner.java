@@ -0,0 +1,67 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Hands out one canonical instance per distinct value of an immutable type, so that equal values parsed many
+ * times share a single object.
+ * Each instance is keyed by its own canonical string, and both are only weakly held: a canonical instance is
+ * forgotten once nothing else refers to it.
+ *
+ * @param <T> the immutable type being interned.
+ */
+public class WeakInterner<T> {
+
+    private final Map<String, WeakReference<T>> instances = new WeakHashMap<>();
+    private final Function<T, String> keyOf;
+
+    /**
+     * Creates an interner for values identified by {@code keyOf}.
+     * {@code keyOf} must return a string held by the value itself, so that the entry lives as long as the value.
+     */
+    public WeakInterner(Function<T, String> keyOf) {
+        requireNonNull(keyOf);
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the canonical instance for {@code key}, calling {@code create} only if there is none yet.
+     * {@code key} may differ from the canonical key of the created value (e.g. by casing); the created value is
+     * then interned under its canonical key, and an existing canonical instance is returned in its place.
+     */
+    public synchronized T intern(String key, Supplier<T> create) {
+        requireNonNull(key);
+        T existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        T created = create.get();
+        String canonicalKey = keyOf.apply(created);
+        existing = get(canonicalKey);
+        if (existing != null) {
+            return existing;
+        }
+        instances.put(canonicalKey, new WeakReference<>(created));
+        return created;
+    }
+
+    /**
+     * Returns the number of canonical instances currently held.
+     */
+    public synchronized int size() {
+        instances.values().removeIf(reference -> reference.get() == null);
+        return instances.size();
+    }
+
+    private T get(String key) {
+        WeakReference<T> reference = instances.get(key);
+        return reference == null ? null : reference.get();
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
@@ -23,6 +25,31 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler told the error message of a save that fails after the command requesting it has returned.
+     * The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Applies the changes made to the data file outside the app to the address book, keeping the version of a person
+     * also changed in the app chosen by the storage settings, and tells the external change handler what was done.
+     * It must be called on the thread that executes the commands.
+     */
+    void applyExternalChanges(AddressBookChanges changes);
+
+    /**
+     * Sets the handler told a message describing the changes made outside the app that were applied.
+     * The handler is called on the thread that applies them.
+     */
+    void setExternalChangeHandler(Consumer<String> externalChangeHandler);
+
+    /**
+     * Logs how many saves of the unchanged address book were skipped, and about how many bytes they would have
+     * written. It is also logged every {@code LogicManager#SAVE_SUMMARY_INTERVAL} skipped saves.
+     */
+    void logSaveSummary();
+
     /**
      * Returns the AddressBook.
      *
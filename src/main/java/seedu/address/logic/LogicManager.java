@@ -1,22 +1,30 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings.ExternalChangePolicy;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,20 +36,50 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_EXTERNAL_CHANGES_APPLIED =
+            "Reloaded %1$d contact change(s) made to the data file outside the app.";
+
+    public static final String MESSAGE_EXTERNAL_CHANGE_CONFLICTS =
+            " %1$d of them conflicted with unsaved changes made here; kept the version %2$s.";
+
+    /** The number of skipped saves after which a summary of them is logged again. */
+    public static final int SAVE_SUMMARY_INTERVAL = 100;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundSaver backgroundSaver; // null when saving before each command returns
     private boolean awaitingClearConfirmation = false;
 
+    // Version of the address book at the last save; null until the first save
+    private Long savedVersion = null;
+    private volatile boolean isBackgroundSaveFailed = false;
+    private long savesAvoided = 0;
+    private Consumer<String> saveFailureHandler = message -> {};
+    private Consumer<String> externalChangeHandler = message -> {};
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address book
+     * through {@code backgroundSaver} after each command returns. The saves are flushed by the exit command.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundSaver backgroundSaver) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.backgroundSaver = backgroundSaver;
+        addressBookParser = new AddressBookParser(storage, storage);
+        if (backgroundSaver != null) {
+            backgroundSaver.setFailureHandler(this::handleBackgroundSaveFailure);
+        }
     }
 
     @Override
@@ -78,15 +116,144 @@ public class LogicManager implements Logic {
             }
         }
 
+        saveAddressBookIfChanged();
+        if (commandResult.isExit()) {
+            flushBackgroundSaves();
+        }
+
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book unless it is unchanged since the last successful save.
+     * The first call always saves, as the data file may not hold the data the app started with.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        if (isBackgroundSaveFailed) {
+            isBackgroundSaveFailed = false;
+            savedVersion = null;
+        }
+
+        long version = model.getAddressBookVersion();
+        if (savedVersion != null && savedVersion == version) {
+            savesAvoided++;
+            logger.fine("Address book unchanged, skipped saving (" + savesAvoided + " saves avoided so far)");
+            if (savesAvoided % SAVE_SUMMARY_INTERVAL == 0) {
+                logSaveSummary();
+            }
+            return;
+        }
+
+        if (backgroundSaver != null) {
+            backgroundSaver.requestSave(new AddressBookSnapshot(model.getAddressBook()));
+            savedVersion = version;
+            return;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+        savedVersion = version;
+    }
 
-        return commandResult;
+    /**
+     * Waits until the saves requested from the background saver are written.
+     */
+    private void flushBackgroundSaves() throws CommandException {
+        if (backgroundSaver == null) {
+            return;
+        }
+
+        try {
+            backgroundSaver.flush();
+        } catch (IOException ioe) {
+            savedVersion = null;
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        }
+    }
+
+    /**
+     * Records that a background save failed, so that the next command saves again, and reports it to the UI.
+     */
+    private void handleBackgroundSaveFailure(IOException ioe) {
+        isBackgroundSaveFailed = true;
+        saveFailureHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * Returns the size of the data file, which is about what a save would have written, or 0 if it is unknown.
+     */
+    private long getDataFileSize() {
+        try {
+            return Files.size(storage.getAddressBookFilePath());
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the number of commands after which the address book was not saved, as it was unchanged.
+     */
+    public long getSavesAvoided() {
+        return savesAvoided;
+    }
+
+    /**
+     * Returns the number of bytes those avoided saves would have written, estimated from the data file's current size.
+     * The data file's size is only read here, not on each avoided save.
+     */
+    public long getBytesNotWritten() {
+        return savesAvoided * getDataFileSize();
+    }
+
+    @Override
+    public void logSaveSummary() {
+        logger.info("Skipped " + savesAvoided + " saves of the unchanged address book, avoiding writing about "
+                + getBytesNotWritten() + " bytes");
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void applyExternalChanges(AddressBookChanges changes) {
+        requireNonNull(changes);
+        ExternalChangePolicy policy = model.getUserPrefs().getStorageSettings().getExternalChangePolicy();
+        int conflictCount = changes.applyTo(model, policy);
+        logger.info("Applied " + changes.getPersonChanges().size() + " changes made to the data file outside the app, "
+                + conflictCount + " of them conflicting");
+
+        // The data file is saved now rather than by the next command, so that the resolved conflicts are not lost if
+        // no command follows
+        try {
+            saveAddressBookIfChanged();
+        } catch (CommandException e) {
+            saveFailureHandler.accept(e.getMessage());
+        }
+
+        String message = String.format(MESSAGE_EXTERNAL_CHANGES_APPLIED, changes.getPersonChanges().size());
+        if (conflictCount > 0) {
+            message += String.format(MESSAGE_EXTERNAL_CHANGE_CONFLICTS, conflictCount,
+                    policy == ExternalChangePolicy.KEEP_LOCAL ? "made here" : "in the data file");
+        }
+        externalChangeHandler.accept(message);
+    }
+
+    @Override
+    public void setExternalChangeHandler(Consumer<String> externalChangeHandler) {
+        requireNonNull(externalChangeHandler);
+        this.externalChangeHandler = externalChangeHandler;
     }
 
     @Override
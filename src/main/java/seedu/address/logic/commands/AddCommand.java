@@ -69,7 +69,7 @@ public class AddCommand extends Command {
         PersonValidator.validatePersonForAdd(model, toAdd);
 
         for (Tag tag : toAdd.getTags()) {
-            if (tag.hasGroup() && !model.getTagGroups().contains(tag.getGroup())) {
+            if (tag.hasGroup() && !model.hasTagGroup(tag.getGroup())) {
                 logger.warning("AddCommand failed: Tag Group does not exist.");
                 throw new CommandException(MESSAGE_NONEXISTENT_TAG_GROUP);
             }
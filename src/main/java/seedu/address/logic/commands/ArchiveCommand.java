@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.ArchivedPersonKeys;
+import seedu.address.model.person.MatchesRoleStatusTagGroupPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ArchiveStorage;
+
+/**
+ * Moves all persons in the address book whose role, status, and/or Tag Groups match the specified keywords into the
+ * archive. Archived persons are no longer listed or saved with the address book, but can still be found with
+ * {@code find --archived}, and their phone numbers and emails stay taken.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE = "To archive "
+            + "contacts by role, status, and/or Tag Group, please follow the given format: "
+            + COMMAND_WORD + " [r/ROLE]... [s/STATUS]... [tg/TAGGROUP]...\n"
+            + "Example: " + COMMAND_WORD + " s/completed";
+
+    public static final String MESSAGE_SUCCESS = "Archived %1$d contact(s). Use \"" + FindCommand.COMMAND_WORD + " "
+            + FindArchivedCommand.ARCHIVED_FLAG + " KEYWORD...\" to find them.";
+    public static final String MESSAGE_NO_MATCHES = "No contacts match the given filters, so none were archived.";
+    public static final String MESSAGE_ARCHIVE_FAILED = "Could not archive the contacts: %1$s";
+
+    private final ArchiveStorage archiveStorage;
+    private final MatchesRoleStatusTagGroupPredicate predicate;
+
+    /**
+     * Creates an ArchiveCommand moving the persons matching {@code predicate} into {@code archiveStorage}.
+     */
+    public ArchiveCommand(ArchiveStorage archiveStorage, MatchesRoleStatusTagGroupPredicate predicate) {
+        requireNonNull(archiveStorage);
+        requireNonNull(predicate);
+        this.archiveStorage = archiveStorage;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Set<Person> matchingPersons = model.findPersonsByRoleStatusTagGroup(
+                predicate.getRoles(), predicate.getStatuses(), predicate.getTagGroups());
+        // Archived in list order, so that the archive lists them as the address book did
+        List<Person> toArchive = model.getAddressBook().getPersonList().stream()
+                .filter(matchingPersons::contains)
+                .toList();
+        if (toArchive.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_MATCHES);
+        }
+
+        // The archive is written first, so that a failure leaves the persons in the address book
+        ArchivedPersonKeys archivedPersonKeys;
+        try {
+            archivedPersonKeys = archiveStorage.archivePersons(toArchive);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_FAILED, e.getMessage()), e);
+        }
+        model.setArchivedPersonKeys(archivedPersonKeys);
+        model.deletePersons(toArchive);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toArchive.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveCommand)) {
+            return false;
+        }
+
+        ArchiveCommand otherArchiveCommand = (ArchiveCommand) other;
+        return archiveStorage == otherArchiveCommand.archiveStorage
+                && predicate.equals(otherArchiveCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
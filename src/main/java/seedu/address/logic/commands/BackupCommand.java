@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.BackupGeneration;
+import seedu.address.storage.BackupStorage;
+
+/**
+ * Backs up all persons in the address book as a new backup generation, which {@link RestoreCommand} can restore.
+ * Only the persons changed since an earlier backup are stored again. The oldest generations beyond the number kept by
+ * the storage settings are deleted afterwards.
+ */
+public class BackupCommand extends Command {
+
+    public static final String COMMAND_WORD = "backup";
+
+    public static final String MESSAGE_USAGE = "To back up "
+            + "all contacts as a new generation, please follow the given format: "
+            + COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Backed up %1$d contact(s) as generation %2$d, "
+            + "storing %3$d new or changed contact(s).";
+    public static final String MESSAGE_PRUNED = " Deleted %1$d old generation(s).";
+    public static final String MESSAGE_BACKUP_FAILED = "Could not back up the contacts: %1$s";
+
+    private final BackupStorage backupStorage;
+
+    /**
+     * Creates a BackupCommand backing up to {@code backupStorage}.
+     */
+    public BackupCommand(BackupStorage backupStorage) {
+        requireNonNull(backupStorage);
+        this.backupStorage = backupStorage;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        int retentionCount = model.getUserPrefs().getStorageSettings().getBackupRetentionCount();
+
+        BackupGeneration backup;
+        int prunedCount = 0;
+        try {
+            backup = backupStorage.backUpAddressBook(model.getAddressBook());
+            if (retentionCount > 0) {
+                prunedCount = backupStorage.pruneBackups(retentionCount);
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_BACKUP_FAILED, e.getMessage()), e);
+        }
+
+        String message = String.format(MESSAGE_SUCCESS, backup.getPersonCount(), backup.getGeneration(),
+                backup.getNewChunkCount());
+        if (prunedCount > 0) {
+            message += String.format(MESSAGE_PRUNED, prunedCount);
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BackupCommand)) {
+            return false;
+        }
+
+        BackupCommand otherBackupCommand = (BackupCommand) other;
+        return backupStorage == otherBackupCommand.backupStorage;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("backupDirectory", backupStorage.getBackupDirectoryPath())
+                .toString();
+    }
+}
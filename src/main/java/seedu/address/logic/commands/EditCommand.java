@@ -95,7 +95,7 @@ public class EditCommand extends Command {
         PersonValidator.validatePersonForEdit(model, personToEdit, editedPerson);
 
         for (Tag tag : editedPerson.getTags()) {
-            if (tag.hasGroup() && !model.getTagGroups().contains(tag.getGroup())) {
+            if (tag.hasGroup() && !model.hasTagGroup(tag.getGroup())) {
                 logger.warning("EditCommand failed: Tag group does not exist.");
                 throw new CommandException(MESSAGE_NONEXISTENT_TAG_GROUP);
             }
@@ -127,8 +127,8 @@ public class EditCommand extends Command {
         }
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
         Set<Role> updatedRoles = editPersonDescriptor.getRoles().orElse(personToEdit.getRoles());
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedRoles, updatedStatus,
-                updatedTags);
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress, updatedRoles,
+                updatedStatus, updatedTags);
     }
 
     @Override
@@ -2,10 +2,14 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.IndexedPredicate;
 import seedu.address.model.person.MatchesRoleStatusTagGroupPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Filters and lists all persons in the address book whose role, status, and/or Tag Groups
@@ -40,7 +44,10 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // Resolve the filters as a union of precomputed bitmaps instead of testing every person against them
+        Set<Person> matchingPersons = model.findPersonsByRoleStatusTagGroup(
+                predicate.getRoles(), predicate.getStatuses(), predicate.getTagGroups());
+        model.updateFilteredPersonList(new IndexedPredicate(predicate, matchingPersons));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ArchiveStorage;
+
+/**
+ * Finds and lists all archived persons whose name contains any of the argument keywords.
+ * Keyword matching is case in-sensitive. The archive is read only for this, and the persons found are listed in the
+ * result rather than added to the person list, as they are not in the address book.
+ */
+public class FindArchivedCommand extends Command {
+
+    public static final String ARCHIVED_FLAG = "--archived";
+
+    public static final String MESSAGE_ARCHIVED_PERSONS_FOUND = "%1$d archived person(s) found";
+    public static final String MESSAGE_FIND_FAILED = "Could not read the archive: %1$s";
+
+    private final ArchiveStorage archiveStorage;
+    private final NameContainsKeywordsPredicate predicate;
+
+    /**
+     * Creates a FindArchivedCommand finding the persons in {@code archiveStorage} matching {@code predicate}.
+     */
+    public FindArchivedCommand(ArchiveStorage archiveStorage, NameContainsKeywordsPredicate predicate) {
+        requireNonNull(archiveStorage);
+        requireNonNull(predicate);
+        this.archiveStorage = archiveStorage;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> archivedPersons;
+        try {
+            archivedPersons = archiveStorage.readArchivedPersons();
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_FIND_FAILED, e.getMessage()), e);
+        }
+
+        List<Person> matchingPersons = archivedPersons.stream().filter(predicate).toList();
+        StringBuilder message = new StringBuilder(
+                String.format(MESSAGE_ARCHIVED_PERSONS_FOUND, matchingPersons.size()));
+        for (int i = 0; i < matchingPersons.size(); i++) {
+            message.append('\n').append(i + 1).append(". ").append(Messages.format(matchingPersons.get(i)));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindArchivedCommand)) {
+            return false;
+        }
+
+        FindArchivedCommand otherFindArchivedCommand = (FindArchivedCommand) other;
+        return archiveStorage == otherFindArchivedCommand.archiveStorage
+                && predicate.equals(otherFindArchivedCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
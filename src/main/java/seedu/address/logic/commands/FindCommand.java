@@ -2,14 +2,19 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.IndexedPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case in-sensitive.
+ * With {@code --archived}, the archived persons are searched instead, by {@link FindArchivedCommand}.
  */
 public class FindCommand extends Command {
 
@@ -18,7 +23,7 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = "To find "
             + "and display all persons whose names contain any of "
             + "the specified keywords, please follow the given format: "
-            + COMMAND_WORD + " KEYWORD...\n"
+            + COMMAND_WORD + " [" + FindArchivedCommand.ARCHIVED_FLAG + "] KEYWORD...\n"
             + "Example: " + COMMAND_WORD + " john alice";
 
     private final NameContainsKeywordsPredicate predicate;
@@ -30,7 +35,9 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // Resolve the keywords through the name index instead of matching every name against every keyword
+        Set<Person> matchingPersons = model.findPersonsByName(predicate.getKeywords());
+        model.updateFilteredPersonList(new IndexedPredicate(predicate, matchingPersons));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
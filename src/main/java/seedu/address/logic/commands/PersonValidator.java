@@ -14,6 +14,8 @@ import seedu.address.model.person.Person;
 public class PersonValidator {
     public static final String MESSAGE_DUPLICATE_EMAIL = "This email address already exists in the address book.";
     public static final String MESSAGE_DUPLICATE_PHONE = "This phone number already exists in the address book.";
+    public static final String MESSAGE_ARCHIVED_EMAIL = "This email address belongs to an archived contact.";
+    public static final String MESSAGE_ARCHIVED_PHONE = "This phone number belongs to an archived contact.";
 
     private static final Logger logger = LogsCenter.getLogger(PersonValidator.class);
 
@@ -37,7 +39,7 @@ public class PersonValidator {
             throws CommandException {
         if (model.hasSamePhoneNumber(person)) {
             logger.warning("AddCommand failed: Duplicate phone number detected.");
-            throw new CommandException(MESSAGE_DUPLICATE_PHONE);
+            throw new CommandException(getDuplicatePhoneMessage(model, person));
         }
     }
 
@@ -48,7 +50,7 @@ public class PersonValidator {
             throws CommandException {
         if (model.hasSameEmail(person)) {
             logger.warning("AddCommand failed: Duplicate email detected.");
-            throw new CommandException(MESSAGE_DUPLICATE_EMAIL);
+            throw new CommandException(getDuplicateEmailMessage(model, person));
         }
     }
 
@@ -66,13 +68,25 @@ public class PersonValidator {
         if (!personToEdit.getPhone().equals(editedPerson.getPhone())
                 && model.hasSamePhoneNumber(editedPerson)) {
             logger.warning("EditCommand failed: Duplicate phone number detected.");
-            throw new CommandException(MESSAGE_DUPLICATE_PHONE);
+            throw new CommandException(getDuplicatePhoneMessage(model, editedPerson));
         }
 
         if (!personToEdit.getEmail().equals(editedPerson.getEmail())
                 && model.hasSameEmail(editedPerson)) {
             logger.warning("EditCommand failed: Duplicate email address detected.");
-            throw new CommandException(MESSAGE_DUPLICATE_EMAIL);
+            throw new CommandException(getDuplicateEmailMessage(model, editedPerson));
         }
     }
+
+    private static String getDuplicatePhoneMessage(Model model, Person person) {
+        return model.getArchivedPersonKeys().containsPhone(person.getPhone())
+                ? MESSAGE_ARCHIVED_PHONE
+                : MESSAGE_DUPLICATE_PHONE;
+    }
+
+    private static String getDuplicateEmailMessage(Model model, Person person) {
+        return model.getArchivedPersonKeys().containsEmail(person.getEmail())
+                ? MESSAGE_ARCHIVED_EMAIL
+                : MESSAGE_DUPLICATE_EMAIL;
+    }
 }
@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.StorageSettings.ExternalChangePolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.BackupStorage;
+
+/**
+ * Restores the persons backed up as a backup generation. Only the persons that differ from the backup are changed:
+ * those added since are deleted, those edited since are changed back, and those deleted since are added back.
+ * Tag Groups created since the backup are kept, as persons may still use them.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+
+    public static final String MESSAGE_USAGE = "To restore "
+            + "the contacts backed up as a generation, please follow the given format: "
+            + COMMAND_WORD + " GENERATION\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_SUCCESS = "Restored backup generation %1$d: %2$d contact(s) changed.";
+    public static final String MESSAGE_CLASHES = " %1$d contact(s) were not restored, as they have the phone number "
+            + "or email of another contact.";
+    public static final String MESSAGE_UNKNOWN_GENERATION = "There is no backup generation %1$d. "
+            + "Available generations: %2$s";
+    public static final String MESSAGE_NO_BACKUPS = "There is no backup generation %1$d, as nothing is backed up yet.";
+    public static final String MESSAGE_RESTORE_FAILED = "Could not restore backup generation %1$d: %2$s";
+
+    private final BackupStorage backupStorage;
+    private final long generation;
+
+    /**
+     * Creates a RestoreCommand restoring backup generation {@code generation} from {@code backupStorage}.
+     */
+    public RestoreCommand(BackupStorage backupStorage, long generation) {
+        requireNonNull(backupStorage);
+        this.backupStorage = backupStorage;
+        this.generation = generation;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<ReadOnlyAddressBook> backup;
+        try {
+            backup = backupStorage.readBackup(generation);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_RESTORE_FAILED, generation, e.getMessage()), e);
+        }
+        if (backup.isEmpty()) {
+            throw new CommandException(getUnknownGenerationMessage());
+        }
+
+        AddressBookChanges changes = AddressBookChanges.between(model.getAddressBook(), backup.get());
+        int clashCount = changes.applyTo(model, ExternalChangePolicy.KEEP_EXTERNAL);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        String message = String.format(MESSAGE_SUCCESS, generation, changes.getPersonChanges().size() - clashCount);
+        if (clashCount > 0) {
+            message += String.format(MESSAGE_CLASHES, clashCount);
+        }
+        return new CommandResult(message);
+    }
+
+    private String getUnknownGenerationMessage() throws CommandException {
+        List<Long> generations;
+        try {
+            generations = backupStorage.getBackupGenerations();
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_RESTORE_FAILED, generation, e.getMessage()), e);
+        }
+        if (generations.isEmpty()) {
+            return String.format(MESSAGE_NO_BACKUPS, generation);
+        }
+        return String.format(MESSAGE_UNKNOWN_GENERATION, generation,
+                generations.stream().map(String::valueOf).collect(Collectors.joining(", ")));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreCommand)) {
+            return false;
+        }
+
+        RestoreCommand otherRestoreCommand = (RestoreCommand) other;
+        return backupStorage == otherRestoreCommand.backupStorage && generation == otherRestoreCommand.generation;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("generation", generation)
+                .toString();
+    }
+}
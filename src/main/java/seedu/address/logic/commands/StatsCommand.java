@@ -2,19 +2,27 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 import seedu.address.model.person.Status;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagGroup;
 
 /**
- * Displays status statistics of all persons in the address book.
+ * Displays status statistics of all persons in the address book, followed by the number of persons with each role,
+ * Tag Group and Tag in use.
+ * All counts are read from the aggregates kept by the model, so the persons are never scanned.
  */
 public class StatsCommand extends Command {
 
     public static final String COMMAND_WORD = "stats";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Displays status statistics of all contacts.\n"
+            + ": Displays status, role, tag group and tag statistics of all contacts.\n"
             + "Example: " + COMMAND_WORD;
 
     public static final String MESSAGE_SUCCESS = "Status Statistics:\n"
@@ -23,30 +31,43 @@ public class StatsCommand extends Command {
             + "- No Status: %d contact(s)\n"
             + "Total: %d contact(s)";
 
+    public static final String MESSAGE_ROLE_SECTION = "\n\nRole Statistics:\n%1$s";
+    public static final String MESSAGE_TAG_GROUP_SECTION = "\n\nTag Group Statistics:\n%1$s";
+    public static final String MESSAGE_TAG_SECTION = "\n\nTag Statistics:\n%1$s";
+    public static final String MESSAGE_GROUP_COUNT = "- %1$s: %2$d contact(s)";
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        int pendingCount = 0;
-        int completedCount = 0;
-        int noStatusCount = 0;
-
-        for (Person person : model.getAddressBook().getPersonList()) {
-            if (person.getStatus().isEmpty()) {
-                noStatusCount++;
-            } else if (person.getStatus().get() == Status.PENDING) {
-                pendingCount++;
-            } else if (person.getStatus().get() == Status.COMPLETED) {
-                completedCount++;
-            }
-        }
+        PersonStatistics statistics = model.getPersonStatistics();
+        StringBuilder resultMessage = new StringBuilder(String.format(MESSAGE_SUCCESS,
+                statistics.getStatusCount(Status.PENDING), statistics.getStatusCount(Status.COMPLETED),
+                statistics.getNoStatusCount(), statistics.getTotalCount()));
 
-        int totalCount = pendingCount + completedCount + noStatusCount;
+        appendSection(resultMessage, MESSAGE_ROLE_SECTION, statistics.getRoleCounts(), Function.identity());
+        appendSection(resultMessage, MESSAGE_TAG_GROUP_SECTION, statistics.getTagGroupCounts(), TagGroup::getName);
+        appendSection(resultMessage, MESSAGE_TAG_SECTION, model.getTagUsageCounts(), Tag::getTagFormat);
 
-        String resultMessage = String.format(MESSAGE_SUCCESS,
-                pendingCount, completedCount, noStatusCount, totalCount);
+        return new CommandResult(resultMessage.toString());
+    }
+
+    /**
+     * Appends one line per entry of {@code counts} to {@code message} under {@code sectionFormat}, sorted by the
+     * name given by {@code nameOf} ignoring case. Nothing is appended if {@code counts} is empty.
+     */
+    private static <K> void appendSection(StringBuilder message, String sectionFormat, Map<K, Integer> counts,
+            Function<K, String> nameOf) {
+        if (counts.isEmpty()) {
+            return;
+        }
 
-        return new CommandResult(resultMessage);
+        String lines = counts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey((first, second) ->
+                        nameOf.apply(first).compareToIgnoreCase(nameOf.apply(second))))
+                .map(entry -> String.format(MESSAGE_GROUP_COUNT, nameOf.apply(entry.getKey()), entry.getValue()))
+                .collect(Collectors.joining("\n"));
+        message.append(String.format(sectionFormat, lines));
     }
 
     @Override
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Lists every Tag in use together with the number of contacts having it.
+ */
+public class TagsCommand extends Command {
+
+    public static final String COMMAND_WORD = "tags";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists every tag in use and the number of contacts having it.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Tag Usage:\n%1$s";
+    public static final String MESSAGE_TAG_USAGE = "- %1$s: %2$d contact(s)";
+    public static final String MESSAGE_NO_TAGS = "No tags are in use.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        Map<Tag, Integer> tagUsageCounts = model.getTagUsageCounts();
+        if (tagUsageCounts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TAGS);
+        }
+
+        String usage = tagUsageCounts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey((first, second) ->
+                        first.getTagFormat().compareToIgnoreCase(second.getTagFormat())))
+                .map(entry -> String.format(MESSAGE_TAG_USAGE, entry.getKey().getTagFormat(), entry.getValue()))
+                .collect(Collectors.joining("\n"));
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, usage));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof TagsCommand);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -9,6 +10,8 @@ import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -19,9 +22,13 @@ import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.TagGroupCommand;
+import seedu.address.logic.commands.TagsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.ArchiveStorage;
+import seedu.address.storage.BackupStorage;
 
 /**
  * Parses user input.
@@ -34,6 +41,20 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final BackupStorage backupStorage;
+    private final ArchiveStorage archiveStorage;
+
+    /**
+     * Creates an AddressBookParser whose backup commands use {@code backupStorage}, and whose archive commands use
+     * {@code archiveStorage}.
+     */
+    public AddressBookParser(BackupStorage backupStorage, ArchiveStorage archiveStorage) {
+        requireNonNull(backupStorage);
+        requireNonNull(archiveStorage);
+        this.backupStorage = backupStorage;
+        this.archiveStorage = archiveStorage;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -70,7 +91,7 @@ public class AddressBookParser {
             return new ClearCommand(null);
 
         case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
+            return new FindCommandParser(archiveStorage).parse(arguments);
 
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
@@ -90,9 +111,21 @@ public class AddressBookParser {
         case DeleteTagGroupCommand.COMMAND_WORD:
             return new DeleteTagGroupCommandParser().parse(arguments);
 
+        case TagsCommand.COMMAND_WORD:
+            return new TagsCommand();
+
         case FilterCommand.COMMAND_WORD:
             return new FilterCommandParser().parse(arguments);
 
+        case BackupCommand.COMMAND_WORD:
+            return new BackupCommand(backupStorage);
+
+        case RestoreCommand.COMMAND_WORD:
+            return new RestoreCommandParser(backupStorage).parse(arguments);
+
+        case ArchiveCommand.COMMAND_WORD:
+            return new ArchiveCommandParser(archiveStorage).parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.ArchiveStorage;
+
+/**
+ * Parses input arguments and creates a new ArchiveCommand object.
+ */
+public class ArchiveCommandParser implements Parser<ArchiveCommand> {
+
+    private final ArchiveStorage archiveStorage;
+
+    /**
+     * Creates an ArchiveCommandParser whose commands archive into {@code archiveStorage}.
+     */
+    public ArchiveCommandParser(ArchiveStorage archiveStorage) {
+        requireNonNull(archiveStorage);
+        this.archiveStorage = archiveStorage;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ArchiveCommand
+     * and returns an ArchiveCommand object for execution.
+     * The filters are those of the FilterCommand.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public ArchiveCommand parse(String args) throws ParseException {
+        return new ArchiveCommand(archiveStorage,
+                FilterCommandParser.parsePredicate(args, ArchiveCommand.MESSAGE_USAGE));
+    }
+}
@@ -29,7 +29,7 @@ public class DeleteTagGroupCommandParser implements Parser<DeleteTagGroupCommand
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagGroup.MESSAGE_CONSTRAINTS));
         }
 
-        TagGroup toDelete = new TagGroup(trimmedArgs);
+        TagGroup toDelete = TagGroup.of(trimmedArgs);
         return new DeleteTagGroupCommand(toDelete);
     }
 }
@@ -27,6 +27,15 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      */
     @Override
     public FilterCommand parse(String args) throws ParseException {
+        return new FilterCommand(parsePredicate(args, FilterCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Parses the role, status and Tag Group filters in {@code args} into a predicate, for the command with
+     * {@code messageUsage}.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    static MatchesRoleStatusTagGroupPredicate parsePredicate(String args, String messageUsage) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ROLE, PREFIX_STATUS, PREFIX_TAG_GROUP);
 
         List<String> roleStrings = argMultimap.getAllValues(PREFIX_ROLE);
@@ -35,13 +44,13 @@ public class FilterCommandParser implements Parser<FilterCommand> {
 
         if (roleStrings.isEmpty() && statusStrings.isEmpty() && tagGroupStrings.isEmpty()) {
             throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
         }
 
         Set<Role> roles = ParserUtil.parseRoles(roleStrings);
         Set<Status> statuses = ParserUtil.parseStatuses(statusStrings);
         Set<TagGroup> tagGroups = ParserUtil.parseTagGroups(tagGroupStrings);
 
-        return new FilterCommand(new MatchesRoleStatusTagGroupPredicate(roles, statuses, tagGroups));
+        return new MatchesRoleStatusTagGroupPredicate(roles, statuses, tagGroups);
     }
 }
@@ -1,33 +1,54 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.FindArchivedCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.storage.ArchiveStorage;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FindCommand object, or a FindArchivedCommand object if the keywords are
+ * preceded by {@code --archived}.
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements Parser<Command> {
+
+    private final ArchiveStorage archiveStorage;
+
+    /**
+     * Creates a FindCommandParser whose commands search the archive in {@code archiveStorage} when asked to.
+     */
+    public FindCommandParser(ArchiveStorage archiveStorage) {
+        requireNonNull(archiveStorage);
+        this.archiveStorage = archiveStorage;
+    }
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand or FindArchivedCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        List<String> nameKeywords = trimmedArgs.isEmpty() ? List.of() : Arrays.asList(trimmedArgs.split("\\s+"));
+        boolean isArchived = !nameKeywords.isEmpty() && nameKeywords.get(0).equals(FindArchivedCommand.ARCHIVED_FLAG);
+        if (isArchived) {
+            nameKeywords = nameKeywords.subList(1, nameKeywords.size());
+        }
+        if (nameKeywords.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(nameKeywords);
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return isArchived ? new FindArchivedCommand(archiveStorage, predicate) : new FindCommand(predicate);
     }
 
 }
@@ -111,7 +111,7 @@ public class ParserUtil {
         if (!Role.isValidRoleName(trimmedRole)) {
             throw new ParseException(Role.MESSAGE_CONSTRAINTS);
         }
-        return new Role(trimmedRole);
+        return Role.of(trimmedRole);
     }
 
     /**
@@ -195,7 +195,7 @@ public class ParserUtil {
         if (!Tag.isValidTagFormat(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -222,7 +222,7 @@ public class ParserUtil {
         if (!TagGroup.isValidTagGroupName(trimmedName)) {
             throw new ParseException(TagGroup.MESSAGE_CONSTRAINTS);
         }
-        return new TagGroup(trimmedName);
+        return TagGroup.of(trimmedName);
     }
 
     /**
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.BackupStorage;
+
+/**
+ * Parses input arguments and creates a new RestoreCommand object
+ */
+public class RestoreCommandParser implements Parser<RestoreCommand> {
+
+    private final BackupStorage backupStorage;
+
+    /**
+     * Creates a RestoreCommandParser whose commands restore from {@code backupStorage}.
+     */
+    public RestoreCommandParser(BackupStorage backupStorage) {
+        requireNonNull(backupStorage);
+        this.backupStorage = backupStorage;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RestoreCommand
+     * and returns a RestoreCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RestoreCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE));
+        }
+        return new RestoreCommand(backupStorage, Long.parseLong(trimmedArgs));
+    }
+
+}
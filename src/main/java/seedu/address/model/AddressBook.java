@@ -2,16 +2,28 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.FilterBitmapIndex;
+import seedu.address.model.person.NameTokenIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexSnapshot;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Status;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagGroup;
+import seedu.address.model.tag.TagUsageRegistry;
 
 /**
  * Wraps all data at the address-book level
@@ -23,6 +35,20 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final Set<TagGroup> tagGroups = new HashSet<>();
 
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    private final TagUsageRegistry tagUsage = new TagUsageRegistry();
+
+    private final FilterBitmapIndex filterIndex = new FilterBitmapIndex();
+
+    private final PersonStatistics statistics = new PersonStatistics();
+
+    // Incremented by every change to the persons or Tag Groups
+    private long version;
+
+    // The indexes the persons were loaded with, which copies reuse until the persons change
+    private PersonIndexSnapshot loadedIndexes;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -49,9 +75,41 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * This is the bulk-load path: the whole batch is checked for duplicates in a single pass before any change.
+     * {@code persons} is traversed only once, as its persons may be decoded on access.
+     *
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException listing every conflict found.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        List<Person> loadedPersons = new ArrayList<>(persons);
+        this.persons.setPersons(loadedPersons);
+        nameTokenIndex.setPersons(loadedPersons);
+        tagUsage.setPersons(loadedPersons);
+        filterIndex.setPersons(loadedPersons);
+        statistics.setPersons(loadedPersons);
+        loadedIndexes = null;
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, restoring the secondary indexes from
+     * {@code indexes} instead of building them from the persons.
+     * {@code persons} must be known to be unique, and {@code indexes} must be a snapshot of the indexes over them,
+     * e.g. both saved together and verified against a checksum on load. No duplicate check is done.
+     */
+    public void setPersons(List<Person> persons, PersonIndexSnapshot indexes) {
+        requireNonNull(indexes);
+        List<Person> loadedPersons = new ArrayList<>(persons);
+        if (indexes.getPersonCount() != loadedPersons.size()) {
+            throw new IllegalArgumentException("The indexes are not over the persons given");
+        }
+        this.persons.setVerifiedPersons(loadedPersons);
+        nameTokenIndex.setPersons(loadedPersons, indexes);
+        tagUsage.setPersons(loadedPersons);
+        filterIndex.setPersons(loadedPersons, indexes);
+        statistics.setPersons(loadedPersons, indexes);
+        loadedIndexes = indexes;
+        version++;
     }
 
     /**
@@ -63,6 +121,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         this.tagGroups.clear();
         this.tagGroups.addAll(tagGroups);
+        version++;
     }
 
     /**
@@ -71,7 +130,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBook && ((AddressBook) newData).loadedIndexes != null) {
+            setPersons(newData.getPersonList(), ((AddressBook) newData).loadedIndexes);
+        } else {
+            setPersons(newData.getPersonList());
+        }
         setTagGroups(newData.getTagGroups());
     }
 
@@ -107,6 +170,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        indexPerson(p);
+        version++;
     }
 
     /**
@@ -117,7 +182,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person replaced = persons.setPerson(target, editedPerson);
+        unindexPerson(replaced);
+        indexPerson(editedPerson);
+        version++;
     }
 
     /**
@@ -125,7 +193,72 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        Person removed = persons.remove(key);
+        unindexPerson(removed);
+        version++;
+    }
+
+    /**
+     * Removes {@code keys} from this {@code AddressBook} in a single update, building the secondary indexes once
+     * instead of updating them for each person removed.
+     * Every key must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        requireNonNull(keys);
+        Set<Long> removedIds = new HashSet<>();
+        for (Person key : keys) {
+            removedIds.add(key.getId());
+        }
+        List<Person> retainedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            if (!removedIds.contains(person.getId())) {
+                retainedPersons.add(person);
+            }
+        }
+        if (retainedPersons.size() + removedIds.size() != persons.asUnmodifiableObservableList().size()) {
+            throw new PersonNotFoundException();
+        }
+        setPersons(retainedPersons);
+    }
+
+    /**
+     * Adds {@code person} to every secondary index of the person list.
+     */
+    private void indexPerson(Person person) {
+        loadedIndexes = null;
+        nameTokenIndex.add(person);
+        tagUsage.add(person);
+        filterIndex.add(person);
+        statistics.add(person);
+    }
+
+    /**
+     * Removes {@code person} from every secondary index of the person list.
+     */
+    private void unindexPerson(Person person) {
+        loadedIndexes = null;
+        nameTokenIndex.remove(person);
+        tagUsage.remove(person);
+        filterIndex.remove(person);
+        statistics.remove(person);
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     * The lookup goes through the name index and does not scan the person list.
+     */
+    public Set<Person> findPersonsByName(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokenIndex.getPersonsMatchingAny(keywords);
+    }
+
+    /**
+     * Returns the persons having any of {@code roles} (ignoring case), any of {@code statuses} or a Tag in any of
+     * {@code tagGroups}. The lookup goes through bitmap indexes and does not scan the person list.
+     */
+    public Set<Person> findPersonsByRoleStatusTagGroup(Set<Role> roles, Set<Status> statuses,
+            Set<TagGroup> tagGroups) {
+        return filterIndex.getPersonsMatchingAny(roles, statuses, tagGroups);
     }
 
     //// Methods for Tag registry management:
@@ -147,7 +280,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTagGroup(TagGroup group) {
         requireNonNull(group);
-        tagGroups.add(group);
+        if (tagGroups.add(group)) {
+            version++;
+        }
     }
 
     /**
@@ -156,7 +291,39 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeTagGroup(TagGroup group) {
         requireNonNull(group);
-        tagGroups.remove(group);
+        if (tagGroups.remove(group)) {
+            version++;
+        }
+    }
+
+    /**
+     * Returns true if any person in the address book has a Tag in {@code group}.
+     */
+    public boolean isTagGroupInUse(TagGroup group) {
+        requireNonNull(group);
+        return tagUsage.isInUse(group);
+    }
+
+    /**
+     * Returns an unmodifiable view of the number of persons having each Tag in use.
+     */
+    public Map<Tag, Integer> getTagUsageCounts() {
+        return tagUsage.getTagCounts();
+    }
+
+    /**
+     * Returns the live aggregate counts of the persons in the address book.
+     */
+    public PersonStatistics getPersonStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns a number that changes whenever the persons or Tag Groups in this address book change.
+     * Two equal versions of the same address book mean its data has not changed in between.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
@@ -0,0 +1,251 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.core.StorageSettings.ExternalChangePolicy;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * The changes that turn one version of an address book into another, e.g. the data file as the app last saved it into
+ * the data file as edited outside the app.
+ * A person is matched across the versions by its phone number, or failing that its email address, as both are unique
+ * within a version, whereas ids are given by each copy of the app on its own, so the same id may belong to different
+ * persons in the two versions. The changes are applied to a model person by person, so that the persons not changed
+ * are left as they are.
+ */
+public class AddressBookChanges {
+
+    private final List<PersonChange> personChanges;
+    private final Set<TagGroup> addedTagGroups;
+
+    private AddressBookChanges(List<PersonChange> personChanges, Set<TagGroup> addedTagGroups) {
+        this.personChanges = Collections.unmodifiableList(personChanges);
+        this.addedTagGroups = Collections.unmodifiableSet(addedTagGroups);
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}.
+     * The removed persons come first, so that applying them frees the phone numbers and emails the others may take.
+     */
+    public static AddressBookChanges between(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+        requireAllNonNull(before, after);
+        Map<Phone, Person> beforeByPhone = new HashMap<>();
+        Map<Email, Person> beforeByEmail = new HashMap<>();
+        for (Person person : before.getPersonList()) {
+            beforeByPhone.put(person.getPhone(), person);
+            beforeByEmail.put(person.getEmail(), person);
+        }
+
+        // Persons are compared by value, so the matched ones are told apart by identity
+        Set<Person> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<PersonChange> addedOrEdited = new ArrayList<>();
+        for (Person afterPerson : after.getPersonList()) {
+            Person beforePerson = beforeByPhone.get(afterPerson.getPhone());
+            if (beforePerson == null || matched.contains(beforePerson)) {
+                beforePerson = beforeByEmail.get(afterPerson.getEmail());
+            }
+            if (beforePerson == null || !matched.add(beforePerson)) {
+                addedOrEdited.add(new PersonChange(null, afterPerson));
+            } else if (!beforePerson.equals(afterPerson)) {
+                addedOrEdited.add(new PersonChange(beforePerson, afterPerson));
+            }
+        }
+
+        List<PersonChange> personChanges = new ArrayList<>();
+        for (Person beforePerson : before.getPersonList()) {
+            if (!matched.contains(beforePerson)) {
+                personChanges.add(new PersonChange(beforePerson, null));
+            }
+        }
+        personChanges.addAll(addedOrEdited);
+
+        Set<TagGroup> addedTagGroups = new HashSet<>(after.getTagGroups());
+        addedTagGroups.removeAll(before.getTagGroups());
+        return new AddressBookChanges(personChanges, addedTagGroups);
+    }
+
+    public List<PersonChange> getPersonChanges() {
+        return personChanges;
+    }
+
+    public Set<TagGroup> getAddedTagGroups() {
+        return addedTagGroups;
+    }
+
+    /**
+     * Returns true if there is no change.
+     */
+    public boolean isEmpty() {
+        return personChanges.isEmpty() && addedTagGroups.isEmpty();
+    }
+
+    /**
+     * Applies the changes to {@code model}, which is expected to hold the version they are from, plus any change made
+     * to it since. A person also changed in {@code model}, or whose change would give it the phone number or email of
+     * another person there, is a conflict; {@code policy} decides which version of it is kept.
+     * A removed Tag Group is left in {@code model}, as persons there may still use it.
+     *
+     * @return the number of conflicts.
+     */
+    public int applyTo(Model model, ExternalChangePolicy policy) {
+        requireAllNonNull(model, policy);
+        for (TagGroup group : addedTagGroups) {
+            if (!model.hasTagGroup(group)) {
+                model.addTagGroup(group);
+            }
+        }
+
+        Map<Phone, Person> localByPhone = new HashMap<>();
+        Map<Email, Person> localByEmail = new HashMap<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            localByPhone.put(person.getPhone(), person);
+            localByEmail.put(person.getEmail(), person);
+        }
+
+        int conflictCount = 0;
+        for (PersonChange change : personChanges) {
+            Person key = change.getBefore() != null ? change.getBefore() : change.getAfter();
+            Person local = localByPhone.getOrDefault(key.getPhone(), localByEmail.get(key.getEmail()));
+            if (Objects.equals(local, change.getAfter())) {
+                continue;
+            }
+
+            boolean isChangedLocally = !Objects.equals(local, change.getBefore());
+            if (isChangedLocally) {
+                conflictCount++;
+                if (policy == ExternalChangePolicy.KEEP_LOCAL) {
+                    continue;
+                }
+            }
+            if (!replace(model, local, change.getAfter(), localByPhone, localByEmail) && !isChangedLocally) {
+                conflictCount++;
+            }
+        }
+        return conflictCount;
+    }
+
+    /**
+     * Replaces {@code local} in {@code model} with {@code replacement}, either of which may be null, keeping the id of
+     * {@code local} and the lookup maps up to date. An added person is given a new id, as its id may be taken.
+     *
+     * @return false if the replacement has the phone number or email of another person in {@code model}.
+     */
+    private static boolean replace(Model model, Person local, Person replacement, Map<Phone, Person> localByPhone,
+            Map<Email, Person> localByEmail) {
+        Person replacementWithId = null;
+        if (replacement != null && local == null) {
+            replacementWithId = new Person(replacement.getName(), replacement.getPhone(), replacement.getEmail(),
+                    replacement.getAddress(), replacement.getRoles(), replacement.getStatus(), replacement.getTags());
+        } else if (replacement != null) {
+            replacementWithId = new Person(local.getId(), replacement.getName(), replacement.getPhone(),
+                    replacement.getEmail(), replacement.getAddress(), replacement.getRoles(), replacement.getStatus(),
+                    replacement.getTags());
+        }
+        try {
+            if (replacementWithId == null) {
+                model.deletePerson(local);
+            } else if (local == null) {
+                model.addPerson(replacementWithId);
+            } else {
+                model.setPerson(local, replacementWithId);
+            }
+        } catch (DuplicatePersonException e) {
+            return false;
+        }
+
+        if (local != null) {
+            localByPhone.remove(local.getPhone());
+            localByEmail.remove(local.getEmail());
+        }
+        if (replacementWithId != null) {
+            localByPhone.put(replacementWithId.getPhone(), replacementWithId);
+            localByEmail.put(replacementWithId.getEmail(), replacementWithId);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChanges)) {
+            return false;
+        }
+
+        AddressBookChanges otherChanges = (AddressBookChanges) other;
+        return personChanges.equals(otherChanges.personChanges)
+                && addedTagGroups.equals(otherChanges.addedTagGroups);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(personChanges, addedTagGroups);
+    }
+
+    /**
+     * A person as it was before and after a change. It was added if there is no person before, and removed if there is
+     * no person after.
+     */
+    public static class PersonChange {
+
+        private final Person before;
+        private final Person after;
+
+        /**
+         * Creates a change from {@code before} to {@code after}, of which at most one is null.
+         */
+        public PersonChange(Person before, Person after) {
+            if (before == null) {
+                requireNonNull(after);
+            }
+            this.before = before;
+            this.after = after;
+        }
+
+        public Person getBefore() {
+            return before;
+        }
+
+        public Person getAfter() {
+            return after;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof PersonChange)) {
+                return false;
+            }
+
+            PersonChange otherChange = (PersonChange) other;
+            return Objects.equals(before, otherChange.before) && Objects.equals(after, otherChange.after);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after);
+        }
+    }
+}
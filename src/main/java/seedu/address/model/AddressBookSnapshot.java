@@ -0,0 +1,46 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * An unchanging copy of an address book as it was when the copy was taken, which can be read from any thread.
+ * As persons and Tag Groups are immutable, taking a copy only copies the references to them.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final Set<TagGroup> tagGroups;
+
+    /**
+     * Creates a copy of the persons and Tag Groups currently in {@code addressBook}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        tagGroups = Set.copyOf(addressBook.getTagGroups());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public Set<TagGroup> getTagGroups() {
+        return tagGroups;
+    }
+
+    @Override
+    public boolean hasTagGroup(TagGroup group) {
+        requireNonNull(group);
+        return tagGroups.contains(group);
+    }
+}
@@ -1,12 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ArchivedPersonKeys;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Status;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagGroup;
 
 /**
@@ -54,30 +61,53 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the data in the address book changes.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same phone number or email as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
     /**
-     * Returns true if a person with the same phone number as {@code phone} exists in the address book.
+     * Returns true if a person with the same phone number as {@code phone} exists in the address book or is archived.
      */
     boolean hasSamePhoneNumber(Person person);
 
     /**
-     * Returns true if a person with the same email address as {@code email} exists in the address book.
+     * Returns true if a person with the same email address as {@code email} exists in the address book or is archived.
      */
     boolean hasSameEmail(Person person);
 
+    /**
+     * Returns the phone numbers and emails of the archived persons, which the persons in the address book may not use.
+     */
+    ArchivedPersonKeys getArchivedPersonKeys();
+
+    /**
+     * Replaces the phone numbers and emails of the archived persons with {@code archivedPersonKeys}.
+     */
+    void setArchivedPersonKeys(ArchivedPersonKeys archivedPersonKeys);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the given persons in a single update.
+     * The persons must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
     /**
      * Adds the given person.
-     * {@code person} must not already exist in the address book.
+     * {@code person} must not already exist in the address book, nor have the phone number or email of an archived
+     * person.
+     * The filter of the filtered person list is kept, and only {@code person} is tested against it.
      */
     void addPerson(Person person);
 
@@ -85,9 +115,21 @@ public interface Model {
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * A phone number or email {@code editedPerson} changes to must not be that of an archived person.
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     */
+    Set<Person> findPersonsByName(Collection<String> keywords);
+
+    /**
+     * Returns the persons having any of {@code roles} (ignoring case), any of {@code statuses}
+     * or a Tag in any of {@code tagGroups}.
+     */
+    Set<Person> findPersonsByRoleStatusTagGroup(Set<Role> roles, Set<Status> statuses, Set<TagGroup> tagGroups);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -129,6 +171,22 @@ public interface Model {
      */
     void removeTagGroup(TagGroup group);
 
-
+    /**
+     * Returns true if any person in the address book has a Tag in the given TagGroup.
+     *
+     * @param group TagGroup to check for usage.
+     * @return true if the TagGroup is in use, false otherwise.
+     */
     boolean isTagGroupInUse(TagGroup group);
+
+    /**
+     * Returns an unmodifiable view of the number of persons having each Tag in use.
+     * Tags that are not used by any person are not included.
+     */
+    Map<Tag, Integer> getTagUsageCounts();
+
+    /**
+     * Returns the aggregate counts of the persons in the address book, kept up to date on every change.
+     */
+    PersonStatistics getPersonStatistics();
 }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -12,7 +14,14 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.ArchivedPersonKeys;
+import seedu.address.model.person.IndexedPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagGroup;
 
 /**
@@ -24,6 +33,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private ArchivedPersonKeys archivedPersonKeys = ArchivedPersonKeys.EMPTY;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -89,6 +99,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -98,13 +113,24 @@ public class ModelManager implements Model {
     @Override
     public boolean hasSamePhoneNumber(Person person) {
         requireNonNull(person);
-        return addressBook.hasSamePhoneNumber(person);
+        return addressBook.hasSamePhoneNumber(person) || archivedPersonKeys.containsPhone(person.getPhone());
     }
 
     @Override
     public boolean hasSameEmail(Person person) {
         requireNonNull(person);
-        return addressBook.hasSameEmail(person);
+        return addressBook.hasSameEmail(person) || archivedPersonKeys.containsEmail(person.getEmail());
+    }
+
+    @Override
+    public ArchivedPersonKeys getArchivedPersonKeys() {
+        return archivedPersonKeys;
+    }
+
+    @Override
+    public void setArchivedPersonKeys(ArchivedPersonKeys archivedPersonKeys) {
+        requireNonNull(archivedPersonKeys);
+        this.archivedPersonKeys = archivedPersonKeys;
     }
 
     @Override
@@ -112,19 +138,46 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+    }
+
     @Override
     public void addPerson(Person person) {
+        if (archivedPersonKeys.containsPhoneOrEmail(person)) {
+            throw new DuplicatePersonException();
+        }
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        if ((!target.getPhone().equals(editedPerson.getPhone())
+                && archivedPersonKeys.containsPhone(editedPerson.getPhone()))
+                || (!target.getEmail().equals(editedPerson.getEmail())
+                && archivedPersonKeys.containsEmail(editedPerson.getEmail()))) {
+            throw new DuplicatePersonException();
+        }
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Set<Person> findPersonsByName(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsByName(keywords);
+    }
+
+    @Override
+    public Set<Person> findPersonsByRoleStatusTagGroup(Set<Role> roles, Set<Status> statuses,
+            Set<TagGroup> tagGroups) {
+        requireAllNonNull(roles, statuses, tagGroups);
+        return addressBook.findPersonsByRoleStatusTagGroup(roles, statuses, tagGroups);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -140,6 +193,10 @@ public class ModelManager implements Model {
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        if (predicate instanceof IndexedPredicate) {
+            // The filtered list has been rebuilt from the indexed matches, and will only test later changes
+            ((IndexedPredicate) predicate).discardIndexedMatches();
+        }
     }
 
     //=========== TagGroup Registry =============================================================
@@ -167,12 +224,18 @@ public class ModelManager implements Model {
     @Override
     public boolean isTagGroupInUse(TagGroup group) {
         requireNonNull(group);
+        return addressBook.isTagGroupInUse(group);
+    }
 
-        return addressBook.getPersonList().stream()
-                .flatMap(person -> person.getTags().stream())
-                .anyMatch(tag -> tag.hasGroup() && group.equals(tag.getGroup()));
+    @Override
+    public Map<Tag, Integer> getTagUsageCounts() {
+        return addressBook.getTagUsageCounts();
     }
 
+    @Override
+    public PersonStatistics getPersonStatistics() {
+        return addressBook.getPersonStatistics();
+    }
 
 
     @Override
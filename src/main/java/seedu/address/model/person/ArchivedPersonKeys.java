@@ -0,0 +1,141 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * The phone numbers and emails of the archived persons, kept as sorted 64-bit hashes so that they stay small enough
+ * to be held in memory while the archived persons themselves are not.
+ * A hash collision may make an unused phone number or email look archived, but with 64-bit hashes that is
+ * vanishingly unlikely.
+ * Guarantees: immutable.
+ */
+public class ArchivedPersonKeys {
+
+    public static final ArchivedPersonKeys EMPTY = new ArchivedPersonKeys(new long[0], new long[0], 0);
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] phoneHashes;
+    private final long[] emailHashes;
+    private final long maxId;
+
+    /**
+     * Creates the keys with the given hashes, in any order, of persons whose ids are at most {@code maxId}.
+     */
+    public ArchivedPersonKeys(long[] phoneHashes, long[] emailHashes, long maxId) {
+        requireNonNull(phoneHashes);
+        requireNonNull(emailHashes);
+        this.phoneHashes = phoneHashes.clone();
+        this.emailHashes = emailHashes.clone();
+        Arrays.sort(this.phoneHashes);
+        Arrays.sort(this.emailHashes);
+        this.maxId = maxId;
+    }
+
+    /**
+     * Returns the keys of {@code persons}.
+     */
+    public static ArchivedPersonKeys of(Collection<Person> persons) {
+        requireNonNull(persons);
+        long[] phoneHashes = new long[persons.size()];
+        long[] emailHashes = new long[persons.size()];
+        long maxId = 0;
+        int i = 0;
+        for (Person person : persons) {
+            phoneHashes[i] = hash(person.getPhone().value);
+            emailHashes[i] = hash(person.getEmail().value);
+            maxId = Math.max(maxId, person.getId());
+            i++;
+        }
+        return new ArchivedPersonKeys(phoneHashes, emailHashes, maxId);
+    }
+
+    /**
+     * Returns the 64-bit FNV-1a hash of the UTF-8 bytes of {@code key}, which is stable across runs.
+     */
+    static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns true if an archived person has {@code phone}.
+     */
+    public boolean containsPhone(Phone phone) {
+        requireNonNull(phone);
+        return Arrays.binarySearch(phoneHashes, hash(phone.value)) >= 0;
+    }
+
+    /**
+     * Returns true if an archived person has {@code email}.
+     */
+    public boolean containsEmail(Email email) {
+        requireNonNull(email);
+        return Arrays.binarySearch(emailHashes, hash(email.value)) >= 0;
+    }
+
+    /**
+     * Returns true if an archived person has the phone number or email of {@code person}.
+     */
+    public boolean containsPhoneOrEmail(Person person) {
+        requireNonNull(person);
+        return containsPhone(person.getPhone()) || containsEmail(person.getEmail());
+    }
+
+    public int size() {
+        return phoneHashes.length;
+    }
+
+    /**
+     * Returns a copy of the phone number hashes, in ascending order.
+     */
+    public long[] getPhoneHashes() {
+        return phoneHashes.clone();
+    }
+
+    /**
+     * Returns a copy of the email hashes, in ascending order.
+     */
+    public long[] getEmailHashes() {
+        return emailHashes.clone();
+    }
+
+    /**
+     * Returns the largest id of the archived persons, or 0 if there are none.
+     */
+    public long getMaxId() {
+        return maxId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchivedPersonKeys)) {
+            return false;
+        }
+
+        ArchivedPersonKeys otherKeys = (ArchivedPersonKeys) other;
+        return Arrays.equals(phoneHashes, otherKeys.phoneHashes)
+                && Arrays.equals(emailHashes, otherKeys.emailHashes)
+                && maxId == otherKeys.maxId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(phoneHashes), Arrays.hashCode(emailHashes), maxId);
+    }
+}
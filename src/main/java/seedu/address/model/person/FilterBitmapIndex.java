@@ -0,0 +1,170 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * Bitmap indexes over the roles, statuses and Tag Groups of persons, used to answer {@code filter} queries.
+ * Every indexed person occupies a dense slot, and each role (ignoring case), {@code Status} and {@code TagGroup}
+ * has a bit set marking the slots of the persons having it. Slots freed by removed persons are reused.
+ * Persons are located by phone number, as phone numbers are unique in the address book.
+ *
+ * @see MatchesRoleStatusTagGroupPredicate
+ */
+public class FilterBitmapIndex {
+
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final Map<Phone, Integer> slotsByPhone = new HashMap<>();
+    private final BitSet freeSlots = new BitSet();
+
+    private final Map<String, BitSet> roleBits = new HashMap<>();
+    private final Map<Status, BitSet> statusBits = new EnumMap<>(Status.class);
+    private final Map<TagGroup, BitSet> tagGroupBits = new HashMap<>();
+
+    /**
+     * Assigns {@code person} a slot and marks it in the bit sets of their roles, status and Tag Groups.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int slot = freeSlots.isEmpty() ? personsBySlot.size() : freeSlots.nextSetBit(0);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            freeSlots.clear(slot);
+            personsBySlot.set(slot, person);
+        }
+        slotsByPhone.put(person.getPhone(), slot);
+
+        for (Role role : person.getRoles()) {
+            roleBits.computeIfAbsent(fold(role), unused -> new BitSet()).set(slot);
+        }
+        person.getStatus().ifPresent(status -> statusBits.computeIfAbsent(status, unused -> new BitSet()).set(slot));
+        for (Tag tag : person.getTags()) {
+            if (tag.hasGroup()) {
+                tagGroupBits.computeIfAbsent(tag.getGroup(), unused -> new BitSet()).set(slot);
+            }
+        }
+    }
+
+    /**
+     * Clears the slot of {@code person} from every bit set and frees it for reuse.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsByPhone.remove(person.getPhone());
+        if (slot == null) {
+            return;
+        }
+        Person indexed = personsBySlot.get(slot);
+        personsBySlot.set(slot, null);
+        freeSlots.set(slot);
+
+        for (Role role : indexed.getRoles()) {
+            clear(roleBits, fold(role), slot);
+        }
+        indexed.getStatus().ifPresent(status -> clear(statusBits, status, slot));
+        for (Tag tag : indexed.getTags()) {
+            if (tag.hasGroup()) {
+                clear(tagGroupBits, tag.getGroup(), slot);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}, assigning slots in list order.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsBySlot.clear();
+        slotsByPhone.clear();
+        freeSlots.clear();
+        roleBits.clear();
+        statusBits.clear();
+        tagGroupBits.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}, assigning slots in list order and copying the bit sets
+     * from {@code indexes}, which must be a snapshot of the indexes over {@code persons}.
+     */
+    public void setPersons(List<Person> persons, PersonIndexSnapshot indexes) {
+        requireAllNonNull(persons, indexes);
+        personsBySlot.clear();
+        slotsByPhone.clear();
+        freeSlots.clear();
+        personsBySlot.addAll(persons);
+        for (int slot = 0; slot < persons.size(); slot++) {
+            slotsByPhone.put(persons.get(slot).getPhone(), slot);
+        }
+        copyBits(indexes.getRoleBits(), roleBits);
+        copyBits(indexes.getStatusBits(), statusBits);
+        copyBits(indexes.getTagGroupBits(), tagGroupBits);
+    }
+
+    /**
+     * Returns the persons having any of {@code roles} (ignoring case), any of {@code statuses} or a Tag in any of
+     * {@code tagGroups}, computed as the union of the matching bit sets.
+     * The returned set compares persons by identity, which makes membership tests cheap for the indexed instances.
+     */
+    public Set<Person> getPersonsMatchingAny(Set<Role> roles, Set<Status> statuses, Set<TagGroup> tagGroups) {
+        requireAllNonNull(roles, statuses, tagGroups);
+        BitSet matches = new BitSet();
+        for (Role role : roles) {
+            or(matches, roleBits.get(fold(role)));
+        }
+        for (Status status : statuses) {
+            or(matches, statusBits.get(status));
+        }
+        for (TagGroup tagGroup : tagGroups) {
+            or(matches, tagGroupBits.get(tagGroup));
+        }
+
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            persons.add(personsBySlot.get(slot));
+        }
+        return persons;
+    }
+
+    private static void or(BitSet target, BitSet bits) {
+        if (bits != null) {
+            target.or(bits);
+        }
+    }
+
+    private static <K> void copyBits(Map<K, BitSet> source, Map<K, BitSet> target) {
+        target.clear();
+        source.forEach((key, bits) -> target.put(key, (BitSet) bits.clone()));
+    }
+
+    private static <K> void clear(Map<K, BitSet> bitsByKey, K key, int slot) {
+        BitSet bits = bitsByKey.get(key);
+        if (bits == null) {
+            return;
+        }
+        bits.clear(slot);
+        if (bits.isEmpty()) {
+            bitsByKey.remove(key);
+        }
+    }
+
+    static String fold(Role role) {
+        return role.roleName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests a {@code Person} against {@code predicate}, given the persons that an index has already found to match it.
+ * Until {@link #discardIndexedMatches()} is called, persons are tested by looking them up in those matches, so that
+ * the first pass over the person list costs no field comparisons. Afterwards, persons added or edited later are
+ * tested against {@code predicate} itself.
+ */
+public class IndexedPredicate implements Predicate<Person> {
+
+    private final Predicate<Person> predicate;
+    private Set<Person> indexedMatches;
+
+    /**
+     * Creates a predicate answering from {@code indexedMatches}, which must hold exactly the persons currently in
+     * the address book that satisfy {@code predicate}.
+     */
+    public IndexedPredicate(Predicate<Person> predicate, Set<Person> indexedMatches) {
+        requireAllNonNull(predicate, indexedMatches);
+        this.predicate = predicate;
+        this.indexedMatches = indexedMatches;
+    }
+
+    /**
+     * Stops answering from the indexed matches, which may not cover persons added or edited after this call.
+     */
+    public void discardIndexedMatches() {
+        indexedMatches = null;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return indexedMatches != null ? indexedMatches.contains(person) : predicate.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexedPredicate)) {
+            return false;
+        }
+
+        IndexedPredicate otherIndexedPredicate = (IndexedPredicate) other;
+        return predicate.equals(otherIndexedPredicate.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
@@ -29,6 +29,18 @@ public class MatchesRoleStatusTagGroupPredicate implements Predicate<Person> {
         this.tagGroups = tagGroups;
     }
 
+    public Set<Role> getRoles() {
+        return roles;
+    }
+
+    public Set<Status> getStatuses() {
+        return statuses;
+    }
+
+    public Set<TagGroup> getTagGroups() {
+        return tagGroups;
+    }
+
     /**
      * Returns true if the given {@code Person} matches the roles, statuses, or Tag Groups.
      */
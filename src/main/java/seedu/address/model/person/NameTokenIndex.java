@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * An inverted index from the case-folded words of each {@code Person}'s {@code Name} to the persons whose name
+ * contains that word.
+ * Persons are keyed by phone number within each posting list, as phone numbers are unique in the address book.
+ *
+ * @see NameContainsKeywordsPredicate
+ */
+public class NameTokenIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Map<Phone, Person>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the posting list of every word in their name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            postings.computeIfAbsent(token, unused -> new HashMap<>()).put(person.getPhone(), person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the posting list of every word in their name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            Map<Phone, Person> posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person.getPhone());
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the names of {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Replaces the contents of this index with the names of {@code persons}, taking the words of each name from
+     * {@code indexes}, which must be a snapshot of the indexes over {@code persons}.
+     */
+    public void setPersons(List<Person> persons, PersonIndexSnapshot indexes) {
+        requireAllNonNull(persons, indexes);
+        postings.clear();
+        indexes.getNameTokenPositions().forEach((token, positions) -> {
+            Map<Phone, Person> posting = new HashMap<>(positions.length * 4 / 3 + 1);
+            for (int position : positions) {
+                Person person = persons.get(position);
+                posting.put(person.getPhone(), person);
+            }
+            postings.put(token, posting);
+        });
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     * The returned set compares persons by identity, which makes membership tests cheap for the indexed instances.
+     */
+    public Set<Person> getPersonsMatchingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            Map<Phone, Person> posting = postings.get(fold(keyword.trim()));
+            if (posting != null) {
+                matches.addAll(posting.values());
+            }
+        }
+        return matches;
+    }
+
+    static String[] tokenize(String fullName) {
+        String[] tokens = WHITESPACE.split(fullName);
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = fold(tokens[i]);
+        }
+        return tokens;
+    }
+
+    private static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
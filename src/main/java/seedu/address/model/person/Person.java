@@ -3,20 +3,28 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+import seedu.address.commons.util.CompactSet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Every person also carries a stable numeric id, which is kept across edits and saves so that the person can be
+ * located without comparing fields. The id is a handle rather than data, and is not part of {@link #equals}.
  */
 public class Person {
 
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,16 +32,16 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Role> roles = new HashSet<>();
+    private final Set<Role> roles;
     private final Optional<Status> status;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
     /**
      * Creates a Person without any specified roles and status, using an empty set of roles and status.
      * This constructor is for backward compatibility with code that has not yet use roles and status.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        this(name, phone, email, address, new HashSet<>(), Optional.empty(), tags); // default empty roles and no status
+        this(name, phone, email, address, Collections.emptySet(), Optional.empty(), tags); // no roles and no status
     }
 
     /**
@@ -41,22 +49,62 @@ public class Person {
      * This constructor is for backward compatibility with code that has not yet use roles.
      */
     public Person(Name name, Phone phone, Email email, Address address, Status status, Set<Tag> tags) {
-        this(name, phone, email, address, new HashSet<>(), Optional.ofNullable(status), tags); // default empty roles
+        this(name, phone, email, address, Collections.emptySet(), Optional.ofNullable(status), tags); // no roles
     }
 
     /**
      * Every field must be present and not null.
+     * {@code roles} and {@code tags} are copied into compact immutable sets.
+     * The person is given a new id, greater than every id handed out or loaded so far.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Role> roles, Optional<Status> status,
                   Set<Tag> tags) {
+        this(nextId(), name, phone, email, address, roles, status, tags);
+    }
+
+    /**
+     * Creates a person with the given {@code id}, e.g. an edited or a loaded person.
+     * {@code id} must be positive. Every other field must be present and not null.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Set<Role> roles,
+                  Optional<Status> status, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, roles, tags);
+        assert isValidId(id);
+        reserveIdsUpTo(id);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.roles.addAll(roles);
+        this.roles = CompactSet.copyOf(roles);
         this.status = status;
-        this.tags.addAll(tags);
+        this.tags = CompactSet.copyOf(tags);
+    }
+
+    /**
+     * Returns a new id, greater than every id handed out or loaded so far.
+     */
+    public static long nextId() {
+        return NEXT_ID.getAndIncrement();
+    }
+
+    /**
+     * Makes sure that the ids given to new persons are greater than {@code id}, e.g. the id of a person that is
+     * stored but not created yet.
+     */
+    public static void reserveIdsUpTo(long id) {
+        NEXT_ID.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Returns true if {@code id} can be the id of a person.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -84,15 +132,15 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
-     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
+     * Returns an immutable role set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Role> getRoles() {
-        return Collections.unmodifiableSet(roles);
+        return roles;
     }
 
     /**
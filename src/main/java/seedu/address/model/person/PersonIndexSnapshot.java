@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * An unchanging copy of the secondary indexes over a list of persons, with each person identified by its position
+ * in the list instead of by reference, so that it can be saved and loaded together with the list.
+ * It holds the posting lists of a {@link NameTokenIndex} and the bit sets of a {@link FilterBitmapIndex}, from which
+ * those indexes and {@link PersonStatistics} are restored without looking into the persons.
+ */
+public class PersonIndexSnapshot {
+
+    private final int personCount;
+    private final Map<String, int[]> nameTokenPositions;
+    private final Map<String, BitSet> roleBits;
+    private final Map<Status, BitSet> statusBits;
+    private final Map<TagGroup, BitSet> tagGroupBits;
+
+    /**
+     * Creates a snapshot of indexes over {@code personCount} persons.
+     * The positions of the persons whose name has each word must be in ascending order.
+     */
+    public PersonIndexSnapshot(int personCount, Map<String, int[]> nameTokenPositions, Map<String, BitSet> roleBits,
+            Map<Status, BitSet> statusBits, Map<TagGroup, BitSet> tagGroupBits) {
+        requireAllNonNull(nameTokenPositions, roleBits, statusBits, tagGroupBits);
+        this.personCount = personCount;
+        this.nameTokenPositions = Collections.unmodifiableMap(new HashMap<>(nameTokenPositions));
+        this.roleBits = Collections.unmodifiableMap(new HashMap<>(roleBits));
+        Map<Status, BitSet> statusBitsCopy = new EnumMap<>(Status.class);
+        statusBitsCopy.putAll(statusBits);
+        this.statusBits = Collections.unmodifiableMap(statusBitsCopy);
+        this.tagGroupBits = Collections.unmodifiableMap(new HashMap<>(tagGroupBits));
+    }
+
+    /**
+     * Returns a snapshot of the indexes over {@code persons}.
+     */
+    public static PersonIndexSnapshot of(List<Person> persons) {
+        requireNonNull(persons);
+        Map<String, List<Integer>> tokenPositions = new HashMap<>();
+        Map<String, BitSet> roleBits = new HashMap<>();
+        Map<Status, BitSet> statusBits = new EnumMap<>(Status.class);
+        Map<TagGroup, BitSet> tagGroupBits = new HashMap<>();
+
+        for (int position = 0; position < persons.size(); position++) {
+            Person person = persons.get(position);
+            for (String token : NameTokenIndex.tokenize(person.getName().fullName)) {
+                List<Integer> positions = tokenPositions.computeIfAbsent(token, unused -> new ArrayList<>());
+                // A name may have the same word twice
+                if (positions.isEmpty() || positions.get(positions.size() - 1) != position) {
+                    positions.add(position);
+                }
+            }
+            for (Role role : person.getRoles()) {
+                roleBits.computeIfAbsent(FilterBitmapIndex.fold(role), unused -> new BitSet()).set(position);
+            }
+            int slot = position;
+            person.getStatus().ifPresent(status -> statusBits.computeIfAbsent(status, unused -> new BitSet())
+                    .set(slot));
+            for (Tag tag : person.getTags()) {
+                if (tag.hasGroup()) {
+                    tagGroupBits.computeIfAbsent(tag.getGroup(), unused -> new BitSet()).set(position);
+                }
+            }
+        }
+
+        Map<String, int[]> nameTokenPositions = new HashMap<>();
+        tokenPositions.forEach((token, positions) ->
+                nameTokenPositions.put(token, positions.stream().mapToInt(Integer::intValue).toArray()));
+        return new PersonIndexSnapshot(persons.size(), nameTokenPositions, roleBits, statusBits, tagGroupBits);
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the positions of the persons whose name has each case-folded word, in ascending order.
+     * The arrays must not be modified.
+     */
+    public Map<String, int[]> getNameTokenPositions() {
+        return nameTokenPositions;
+    }
+
+    /**
+     * Returns the positions of the persons having each role, keyed by the lower-cased role name.
+     * The bit sets must not be modified.
+     */
+    public Map<String, BitSet> getRoleBits() {
+        return roleBits;
+    }
+
+    /**
+     * Returns the positions of the persons having each status. The bit sets must not be modified.
+     */
+    public Map<Status, BitSet> getStatusBits() {
+        return statusBits;
+    }
+
+    /**
+     * Returns the positions of the persons having a Tag in each Tag Group. The bit sets must not be modified.
+     */
+    public Map<TagGroup, BitSet> getTagGroupBits() {
+        return tagGroupBits;
+    }
+}
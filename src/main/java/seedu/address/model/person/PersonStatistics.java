@@ -0,0 +1,135 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * Keeps live aggregate counts of the persons in an address book: the total, the number of persons with each
+ * {@code Status}, with each {@code Role} (ignoring case) and with at least one Tag in each {@code TagGroup}.
+ * The counts must be updated on every change to the person list, so that statistics never scan the persons.
+ */
+public class PersonStatistics {
+
+    private int totalCount;
+    private final Map<Status, Integer> statusCounts = new EnumMap<>(Status.class);
+    private final Map<String, Integer> roleCounts = new HashMap<>();
+    private final Map<TagGroup, Integer> tagGroupCounts = new HashMap<>();
+
+    /**
+     * Counts {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        update(person, 1);
+    }
+
+    /**
+     * Stops counting {@code person}, which must have been counted before.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        update(person, -1);
+    }
+
+    /**
+     * Replaces all counts with the counts of {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        totalCount = 0;
+        statusCounts.clear();
+        roleCounts.clear();
+        tagGroupCounts.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Replaces all counts with the counts of {@code persons}, taken from the cardinalities of the bit sets in
+     * {@code indexes}, which must be a snapshot of the indexes over {@code persons}.
+     */
+    public void setPersons(List<Person> persons, PersonIndexSnapshot indexes) {
+        requireNonNull(persons);
+        requireNonNull(indexes);
+        totalCount = persons.size();
+        statusCounts.clear();
+        roleCounts.clear();
+        tagGroupCounts.clear();
+        indexes.getStatusBits().forEach((status, bits) -> adjust(statusCounts, status, bits.cardinality()));
+        indexes.getRoleBits().forEach((roleName, bits) -> adjust(roleCounts, roleName, bits.cardinality()));
+        indexes.getTagGroupBits().forEach((group, bits) -> adjust(tagGroupCounts, group, bits.cardinality()));
+    }
+
+    private void update(Person person, int delta) {
+        totalCount += delta;
+        person.getStatus().ifPresent(status -> adjust(statusCounts, status, delta));
+
+        Set<String> roleNames = new HashSet<>();
+        for (Role role : person.getRoles()) {
+            roleNames.add(role.roleName.toLowerCase(Locale.ROOT));
+        }
+        roleNames.forEach(roleName -> adjust(roleCounts, roleName, delta));
+
+        Set<TagGroup> groups = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            if (tag.hasGroup()) {
+                groups.add(tag.getGroup());
+            }
+        }
+        groups.forEach(group -> adjust(tagGroupCounts, group, delta));
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of persons with {@code status}.
+     */
+    public int getStatusCount(Status status) {
+        requireNonNull(status);
+        return statusCounts.getOrDefault(status, 0);
+    }
+
+    /**
+     * Returns the number of persons without a status.
+     */
+    public int getNoStatusCount() {
+        int withStatus = 0;
+        for (int count : statusCounts.values()) {
+            withStatus += count;
+        }
+        return totalCount - withStatus;
+    }
+
+    /**
+     * Returns an unmodifiable view of the number of persons with each role, keyed by the lower-cased role name.
+     * Roles that no person has are not included.
+     */
+    public Map<String, Integer> getRoleCounts() {
+        return Collections.unmodifiableMap(roleCounts);
+    }
+
+    /**
+     * Returns an unmodifiable view of the number of persons with at least one Tag in each Tag Group.
+     * Tag Groups that no person uses are not included.
+     */
+    public Map<TagGroup, Integer> getTagGroupCounts() {
+        return Collections.unmodifiableMap(tagGroupCounts);
+    }
+
+    private static <K> void adjust(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+}
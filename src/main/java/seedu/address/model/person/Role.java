@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Person's role in the address book.
  * Guarantees: immutable;
@@ -19,6 +23,9 @@ public class Role {
      * to guard against pasted inputs from external sources (e.g. bullet points)
      */
     public static final String VALIDATION_REGEX = "^[A-Za-z0-9][A-Za-z0-9 _-]*[A-Za-z0-9_-]$|^[A-Za-z0-9]$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final WeakInterner<Role> INTERNER = new WeakInterner<>(role -> role.roleName);
 
     public final String roleName;
 
@@ -33,11 +40,20 @@ public class Role {
         roleName = role;
     }
 
+    /**
+     * Returns the canonical {@code Role} for {@code role}, so that equal Roles share a single instance.
+     *
+     * @param role A valid role, already trimmed at the ends for whitespace.
+     */
+    public static Role of(String role) {
+        return INTERNER.intern(role, () -> new Role(role));
+    }
+
     /**
      * Returns true if a given string is a valid role.
      */
     public static boolean isValidRoleName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
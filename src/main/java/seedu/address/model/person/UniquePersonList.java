@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -15,8 +18,12 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
  * A person is considered unique if they have a different phone number and email address from all other persons
  * in the list. Adding and updating of persons checks for duplicate phone numbers and emails to ensure uniqueness.
- * The removal of a person uses Person#equals(Object) so as to ensure that the person with exactly the same fields
- * will be removed.
+ * Persons are located for removal and replacement by their id (see Person#getId()), never by comparing fields.
+ *
+ * Phone numbers and email addresses are additionally indexed in hash maps so that duplicate checks do not need
+ * to scan the whole list. Each id is mapped to the slot of its person, which a removal updates for the persons after
+ * it as it shifts them, so that a person is found in constant time. The indexes are kept consistent with the list by
+ * every mutating operation.
  *
  * Supports a minimal set of list operations.
  *
@@ -25,9 +32,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    private static final String MESSAGE_CONFLICT = "Person #%1$d has the same %2$s as person #%3$d (%4$s)";
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+    private final Map<Email, Person> personsByEmail = new HashMap<>();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
 
     /**
      * Returns true if the list contains a person with the same phone number or email as the given argument.
@@ -42,7 +54,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsPhoneNumber(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePhone);
+        return personsByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -50,7 +62,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsEmail(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmail);
+        return personsByEmail.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -59,70 +71,110 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || slotsById.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
+        slotsById.put(toAdd.getId(), internalList.size() - 1);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The phone number and email of {@code editedPerson} must not be the same as another existing person in the list.
+     * {@code editedPerson} normally keeps the id of {@code target}, and must not have the id of another person.
+     *
+     * @return the person in the list that was replaced, which has the id of {@code target} but may be another instance.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = slotOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
+        if (editedPerson.getId() != target.getId() && slotsById.containsKey(editedPerson.getId())) {
+            throw new DuplicatePersonException();
+        }
 
         // Only check for duplicates if phone or email changed
-        boolean phoneChanged = !target.isSamePhone(editedPerson);
-        boolean emailChanged = !target.isSameEmail(editedPerson);
-
-        if (phoneChanged || emailChanged) {
-            boolean hasDuplicate = internalList.stream()
-                    .filter(person -> !person.equals(target))
-                    .anyMatch(person -> editedPerson.isSamePhone(person)
-                            || editedPerson.isSameEmail(person));
+        Person current = internalList.get(index);
+        boolean phoneChanged = !current.isSamePhone(editedPerson);
+        boolean emailChanged = !current.isSameEmail(editedPerson);
 
-            if (hasDuplicate) {
-                throw new DuplicatePersonException();
-            }
+        if ((phoneChanged && isHeldByOther(personsByPhone.get(editedPerson.getPhone()), target))
+                || (emailChanged && isHeldByOther(personsByEmail.get(editedPerson.getEmail()), target))) {
+            throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        removeFromIndexes(replaced);
+        addToIndexes(editedPerson);
+        slotsById.remove(replaced.getId());
+        slotsById.put(editedPerson.getId(), index);
+        return replaced;
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the person with the same id as {@code toRemove} from the list.
      * The person must exist in the list.
+     *
+     * @return the person removed from the list, which has the id of {@code toRemove} but may be another instance.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = slotOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        removeFromIndexes(removed);
+        slotsById.remove(removed.getId());
+        // The persons after it moved one slot towards the front
+        for (int i = index; i < internalList.size(); i++) {
+            slotsById.put(internalList.get(i).getId(), i);
+        }
+        return removed;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByPhone.clear();
+        personsByPhone.putAll(replacement.personsByPhone);
+        personsByEmail.clear();
+        personsByEmail.putAll(replacement.personsByEmail);
+        slotsById.clear();
+        slotsById.putAll(replacement.slotsById);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The whole batch is validated before the list is changed, and the list is then replaced in a single update.
+     *
+     * @throws DuplicatePersonException listing every conflicting pair of persons if {@code persons} is not unique.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<String> conflicts = findConflicts(persons);
+        if (!conflicts.isEmpty()) {
+            throw new DuplicatePersonException(conflicts);
         }
 
         internalList.setAll(persons);
+        rebuildIndexes();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, which are known to be unique, e.g. because they were
+     * saved from a {@code UniquePersonList} and verified against a checksum on load. The duplicate check is skipped.
+     */
+    public void setVerifiedPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        internalList.setAll(persons);
+        rebuildIndexes();
     }
 
     /**
@@ -163,18 +215,77 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
-     * Persons are considered unique if they have different phone numbers and email addresses.
+     * Returns true if {@code holder} is a person other than {@code target}.
+     */
+    private static boolean isHeldByOther(Person holder, Person target) {
+        return holder != null && holder.getId() != target.getId();
+    }
+
+    /**
+     * Returns the current position in the list of the person with the same id as {@code person}, or -1 if there is
+     * no such person.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePhone(persons.get(j))
-                        || persons.get(i).isSameEmail(persons.get(j))) {
-                    return false;
-                }
+    private int slotOf(Person person) {
+        Integer slot = slotsById.get(person.getId());
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Adds the phone number and email of {@code person} to the indexes.
+     */
+    private void addToIndexes(Person person) {
+        personsByPhone.put(person.getPhone(), person);
+        personsByEmail.put(person.getEmail(), person);
+    }
+
+    /**
+     * Removes the phone number and email of {@code person} from the indexes.
+     */
+    private void removeFromIndexes(Person person) {
+        personsByPhone.remove(person.getPhone());
+        personsByEmail.remove(person.getEmail());
+    }
+
+    /**
+     * Rebuilds the indexes from the current contents of the list.
+     */
+    private void rebuildIndexes() {
+        personsByPhone.clear();
+        personsByEmail.clear();
+        slotsById.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            addToIndexes(internalList.get(i));
+            slotsById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Returns a description of every person in {@code persons} that has the same phone number or email as an
+     * earlier person in {@code persons}. Positions in the descriptions are one-based.
+     * Returns an empty list if {@code persons} contains only unique persons.
+     */
+    private static List<String> findConflicts(List<Person> persons) {
+        Map<Phone, Integer> phonePositions = new HashMap<>();
+        Map<Email, Integer> emailPositions = new HashMap<>();
+        Map<Long, Integer> idPositions = new HashMap<>();
+        List<String> conflicts = new ArrayList<>();
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Integer samePhone = phonePositions.putIfAbsent(person.getPhone(), i);
+            if (samePhone != null) {
+                conflicts.add(String.format(MESSAGE_CONFLICT, i + 1, "phone number", samePhone + 1,
+                        person.getPhone()));
+            }
+            Integer sameEmail = emailPositions.putIfAbsent(person.getEmail(), i);
+            if (sameEmail != null) {
+                conflicts.add(String.format(MESSAGE_CONFLICT, i + 1, "email", sameEmail + 1, person.getEmail()));
+            }
+            Integer sameId = idPositions.putIfAbsent(person.getId(), i);
+            if (sameId != null) {
+                conflicts.add(String.format(MESSAGE_CONFLICT, i + 1, "id", sameId + 1, person.getId()));
             }
         }
-        return true;
+        return conflicts;
     }
 }
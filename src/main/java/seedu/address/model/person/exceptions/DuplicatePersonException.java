@@ -1,11 +1,34 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<String> conflicts;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        conflicts = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception describing every conflict found in a batch of persons.
+     *
+     * @param conflicts descriptions of the conflicting persons, one per conflict.
+     */
+    public DuplicatePersonException(List<String> conflicts) {
+        super("Operation would result in duplicate persons:\n" + String.join("\n", conflicts));
+        this.conflicts = Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * Returns the descriptions of the conflicting persons, or an empty list if they were not determined.
+     */
+    public List<String> getConflicts() {
+        return conflicts;
     }
 }
@@ -3,6 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagFormat(String)}
@@ -30,8 +34,13 @@ public class Tag {
      */
     public static final String GROUPED_VALIDATION_REGEX = "^([a-zA-Z0-9]+)\\.([a-zA-Z0-9][a-zA-Z0-9.\\-_]*)$";
 
+    private static final Pattern STANDALONE_VALIDATION_PATTERN = Pattern.compile(STANDALONE_VALIDATION_REGEX);
+    private static final Pattern GROUPED_VALIDATION_PATTERN = Pattern.compile(GROUPED_VALIDATION_REGEX);
+
     private static final String TAG_GROUP_IDENTIFIER = ".";
 
+    private static final WeakInterner<Tag> INTERNER = new WeakInterner<>(Tag::getTagFormat);
+
     public final String tagFormat; // original string
     private final TagGroup group; // null if simple tag
     private final String value; // either entire tag or value after "."
@@ -49,7 +58,7 @@ public class Tag {
         if (tagFormat.contains(TAG_GROUP_IDENTIFIER)) {
             // Parse group and value from "GROUP.VALUE"
             String[] parts = tagFormat.split("\\.", 2);
-            this.group = new TagGroup(parts[0].toUpperCase());
+            this.group = TagGroup.of(parts[0]);
             this.value = parts[1];
             this.tagFormat = this.group.getName() + "." + this.value;;
         } else {
@@ -60,6 +69,16 @@ public class Tag {
         }
     }
 
+    /**
+     * Returns the canonical {@code Tag} for {@code tagFormat}, so that equal Tags share a single instance.
+     * Parsing and validation are skipped when a Tag with exactly this format is already in use.
+     *
+     * @param tagFormat A valid tag format, which must conform to either GROUP.VALUE or ALPHANUMERIC format.
+     */
+    public static Tag of(String tagFormat) {
+        return INTERNER.intern(tagFormat, () -> new Tag(tagFormat));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      * The valid format is "GROUP.VALUE" where GROUP and VALUE are alphanumeric.
@@ -68,7 +87,8 @@ public class Tag {
      */
     public static boolean isValidTagFormat(String test) {
         // Check if it's a valid standalone tag or a valid grouped tag
-        return test.matches(STANDALONE_VALIDATION_REGEX) || test.matches(GROUPED_VALIDATION_REGEX);
+        return STANDALONE_VALIDATION_PATTERN.matcher(test).matches()
+                || GROUPED_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a group of tags in TrackerGuru.
  * Examples: propertyType, location, propertySize.
@@ -15,6 +19,9 @@ public class TagGroup {
             "Tag Groups should be alphanumeric and contain at least one character (no spaces and symbols).";
 
     public static final String VALIDATION_REGEX = "^[A-Za-z0-9]+$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final WeakInterner<TagGroup> INTERNER = new WeakInterner<>(TagGroup::getName);
 
     private final String groupName;
 
@@ -29,6 +36,15 @@ public class TagGroup {
         this.groupName = groupName.toUpperCase();
     }
 
+    /**
+     * Returns the canonical TagGroup for {@code groupName}, so that equal Tag Groups share a single instance.
+     *
+     * @param groupName Alphanumeric group name, e.g., 'propertyType'.
+     */
+    public static TagGroup of(String groupName) {
+        return INTERNER.intern(groupName, () -> new TagGroup(groupName));
+    }
+
     /**
      * Returns true if the given string is a valid TagGroup name.
      *
@@ -36,7 +52,7 @@ public class TagGroup {
      * @return true if valid, false otherwise.
      */
     public static boolean isValidTagGroupName(String test) {
-        return test != null && test.matches(VALIDATION_REGEX);
+        return test != null && VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
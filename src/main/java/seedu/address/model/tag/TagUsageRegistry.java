@@ -0,0 +1,86 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps live reference counts of every {@code Tag} and {@code TagGroup} used by the persons in an address book.
+ * A Tag's count is the number of persons having that Tag, and a Tag Group's count is the number of grouped
+ * Tags referencing that Tag Group across all persons.
+ * The counts must be updated on every change to the person list, so that usage queries never scan the persons.
+ */
+public class TagUsageRegistry {
+
+    private final Map<Tag, Integer> tagCounts = new HashMap<>();
+    private final Map<TagGroup, Integer> tagGroupCounts = new HashMap<>();
+
+    /**
+     * Counts the Tags of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            tagCounts.merge(tag, 1, Integer::sum);
+            if (tag.hasGroup()) {
+                tagGroupCounts.merge(tag.getGroup(), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Stops counting the Tags of {@code person}, which must have been counted before.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            decrement(tagCounts, tag);
+            if (tag.hasGroup()) {
+                decrement(tagGroupCounts, tag.getGroup());
+            }
+        }
+    }
+
+    /**
+     * Replaces all counts with the counts of the Tags of {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        tagCounts.clear();
+        tagGroupCounts.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns true if any person has a Tag in {@code group}.
+     */
+    public boolean isInUse(TagGroup group) {
+        requireNonNull(group);
+        return tagGroupCounts.containsKey(group);
+    }
+
+    /**
+     * Returns the number of persons having {@code tag}.
+     */
+    public int getUsageCount(Tag tag) {
+        requireNonNull(tag);
+        return tagCounts.getOrDefault(tag, 0);
+    }
+
+    /**
+     * Returns an unmodifiable view of the number of persons having each Tag in use.
+     * Tags that are not used by any person are not included.
+     */
+    public Map<Tag, Integer> getTagCounts() {
+        return Collections.unmodifiableMap(tagCounts);
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (unused, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.person.ArchivedPersonKeys;
+
+/**
+ * Reads and writes the phone number and email hashes of the archived persons, kept in a file next to the archive so
+ * that the archive need not be read to check a person against it. The layout is:
+ * <pre>
+ * header:  int magic, int format version, long length of the archive file the keys are of, long largest person id
+ * phones:  int count, then each phone number hash as a long, in ascending order
+ * emails:  int count, then each email hash as a long, in ascending order
+ * trailer: long CRC32C checksum of every byte before it
+ * </pre>
+ */
+class ArchiveKeyFile {
+
+    public static final String MESSAGE_NOT_A_KEY_FILE = "The file is not an archive key file.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "The key file is corrupted: its checksum does not match.";
+    public static final String MESSAGE_STALE = "The key file is not of the current archive.";
+    public static final String MESSAGE_INVALID_COUNT = "The key file has an invalid key count.";
+
+    static final int MAGIC = 0x41424B4B;
+    static final int FORMAT_VERSION = 1;
+
+    private static final String KEY_FILE_SUFFIX = ".keys";
+
+    private ArchiveKeyFile() {}
+
+    /**
+     * Returns the path of the key file kept next to the archive at {@code archiveFilePath}.
+     */
+    static Path getKeyFilePath(Path archiveFilePath) {
+        return archiveFilePath.resolveSibling(archiveFilePath.getFileName() + KEY_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes {@code keys} to {@code out}, without closing it, marked as the keys of the archive of
+     * {@code archiveLength} bytes.
+     */
+    static void write(ArchivedPersonKeys keys, long archiveLength, OutputStream out) throws IOException {
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32C());
+        DataOutputStream data = new DataOutputStream(checkedOut);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeLong(archiveLength);
+        data.writeLong(keys.getMaxId());
+        writeHashes(data, keys.getPhoneHashes());
+        writeHashes(data, keys.getEmailHashes());
+
+        // The checksum covers everything written before it
+        data.flush();
+        data.writeLong(checkedOut.getChecksum().getValue());
+        data.flush();
+    }
+
+    /**
+     * Reads the keys from {@code content}, which must be those of the archive of {@code archiveLength} bytes.
+     *
+     * @throws IOException if {@code content} does not hold valid keys, or holds the keys of another archive.
+     */
+    static ArchivedPersonKeys read(byte[] content, long archiveLength) throws IOException {
+        CheckedInputStream checkedIn = new CheckedInputStream(new ByteArrayInputStream(content), new CRC32C());
+        DataInputStream data = new DataInputStream(checkedIn);
+        if (data.readInt() != MAGIC || data.readInt() != FORMAT_VERSION) {
+            throw new IOException(MESSAGE_NOT_A_KEY_FILE);
+        }
+        if (data.readLong() != archiveLength) {
+            throw new IOException(MESSAGE_STALE);
+        }
+        long maxId = data.readLong();
+        // A corrupted count must not allocate more hashes than the file could hold
+        int maxCount = content.length / Long.BYTES;
+        long[] phoneHashes = readHashes(data, maxCount);
+        long[] emailHashes = readHashes(data, maxCount);
+
+        long expectedChecksum = checkedIn.getChecksum().getValue();
+        if (data.readLong() != expectedChecksum) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        return new ArchivedPersonKeys(phoneHashes, emailHashes, maxId);
+    }
+
+    private static void writeHashes(DataOutputStream data, long[] hashes) throws IOException {
+        data.writeInt(hashes.length);
+        for (long hash : hashes) {
+            data.writeLong(hash);
+        }
+    }
+
+    private static long[] readHashes(DataInputStream data, int maxCount) throws IOException {
+        int count = data.readInt();
+        if (count < 0 || count > maxCount) {
+            throw new IOException(MESSAGE_INVALID_COUNT);
+        }
+        long[] hashes = new long[count];
+        for (int i = 0; i < count; i++) {
+            hashes[i] = data.readLong();
+        }
+        return hashes;
+    }
+}
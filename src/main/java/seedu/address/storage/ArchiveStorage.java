@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.ArchivedPersonKeys;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a storage for the archived persons, which are kept apart from the {@link seedu.address.model.AddressBook}.
+ */
+public interface ArchiveStorage {
+
+    /**
+     * Returns the path of the archive file.
+     */
+    Path getArchiveFilePath();
+
+    /**
+     * Returns the phone numbers and emails of the archived persons, without reading the persons themselves when they
+     * are up to date on disk.
+     *
+     * @throws DataLoadingException if the archive could not be read.
+     */
+    ArchivedPersonKeys readArchivedPersonKeys() throws DataLoadingException;
+
+    /**
+     * Returns the archived persons, in the order they were archived.
+     *
+     * @throws DataLoadingException if the archive could not be read.
+     */
+    List<Person> readArchivedPersons() throws DataLoadingException;
+
+    /**
+     * Adds {@code persons} to the archive. A person equal to an archived person is skipped, as it was archived
+     * before. A person with the id of another archived person is archived with a new id.
+     *
+     * @return the phone numbers and emails of all the archived persons.
+     * @throws IOException if there was any problem reading or writing the archive, or if a person not archived before
+     *     has the phone number or email of an archived person, in which case nothing is archived.
+     */
+    ArchivedPersonKeys archivePersons(Collection<Person> persons) throws IOException;
+
+}
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a dedicated thread, so that commands do not wait for the
+ * disk. A save is written {@code debounceMillis} after it is requested; the saves requested meanwhile are coalesced,
+ * and only the latest of them is written.
+ * The address books given must not change after they are given, e.g. {@link seedu.address.model.AddressBookSnapshot}.
+ */
+public class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long debounceMillis;
+    private final ScheduledExecutorService executor;
+
+    // Held while writing, so that a flush waits for a write in progress
+    private final Object writeLock = new Object();
+
+    private ReadOnlyAddressBook pendingAddressBook;
+    private volatile Consumer<IOException> failureHandler = e -> {};
+
+    /**
+     * Creates a {@code BackgroundSaver} writing to {@code storage} {@code debounceMillis} after a save is requested.
+     */
+    public BackgroundSaver(AddressBookStorage storage, long debounceMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.debounceMillis = debounceMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler told of the saves that fail on the writer thread. It is called on the writer thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Requests {@code addressBook} to be saved, replacing any save requested earlier that is not written yet.
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        boolean isWriteScheduled = pendingAddressBook != null;
+        pendingAddressBook = addressBook;
+        if (!isWriteScheduled) {
+            executor.schedule(this::writeInBackground, debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the save requested last, if it is not written yet, and waits until every requested save is written.
+     *
+     * @throws IOException if the write fails.
+     */
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook addressBook = takePendingAddressBook();
+            if (addressBook != null) {
+                storage.saveAddressBook(addressBook);
+            }
+        }
+    }
+
+    /**
+     * Flushes the requested saves and stops the writer thread.
+     * No save can be requested afterwards.
+     *
+     * @throws IOException if the last write fails.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private synchronized ReadOnlyAddressBook takePendingAddressBook() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook;
+        pendingAddressBook = null;
+        return addressBook;
+    }
+
+    private void writeInBackground() {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Describes a backup generation of the address book.
+ * Guarantees: immutable.
+ */
+public class BackupGeneration {
+
+    private final long generation;
+    private final Instant createdAt;
+    private final int personCount;
+    private final int newChunkCount;
+
+    /**
+     * Creates a description of backup generation {@code generation}, which holds {@code personCount} persons, of
+     * which {@code newChunkCount} were not stored by any earlier generation.
+     */
+    public BackupGeneration(long generation, Instant createdAt, int personCount, int newChunkCount) {
+        requireNonNull(createdAt);
+        this.generation = generation;
+        this.createdAt = createdAt;
+        this.personCount = personCount;
+        this.newChunkCount = newChunkCount;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getNewChunkCount() {
+        return newChunkCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BackupGeneration)) {
+            return false;
+        }
+
+        BackupGeneration otherGeneration = (BackupGeneration) other;
+        return generation == otherGeneration.generation
+                && createdAt.equals(otherGeneration.createdAt)
+                && personCount == otherGeneration.personCount
+                && newChunkCount == otherGeneration.newChunkCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(generation, createdAt, personCount, newChunkCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("generation", generation)
+                .add("createdAt", createdAt)
+                .add("personCount", personCount)
+                .add("newChunkCount", newChunkCount)
+                .toString();
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a storage for numbered backup generations of the {@link seedu.address.model.AddressBook}.
+ */
+public interface BackupStorage {
+
+    /**
+     * Returns the path of the directory the backups are kept in.
+     */
+    Path getBackupDirectoryPath();
+
+    /**
+     * Backs up {@code addressBook} as a new generation, numbered after the newest one.
+     *
+     * @throws IOException if there was any problem writing the backup.
+     */
+    BackupGeneration backUpAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Returns the numbers of the backup generations kept, oldest first.
+     *
+     * @throws IOException if the backup directory could not be listed.
+     */
+    List<Long> getBackupGenerations() throws IOException;
+
+    /**
+     * Returns the time the newest backup generation was made, or {@code Optional.empty()} if there is none.
+     *
+     * @throws DataLoadingException if the newest backup could not be read.
+     */
+    Optional<Instant> getLatestBackupTime() throws DataLoadingException;
+
+    /**
+     * Returns the address book backed up as {@code generation}.
+     * Returns {@code Optional.empty()} if there is no such generation.
+     *
+     * @throws DataLoadingException if the backup could not be read.
+     */
+    Optional<ReadOnlyAddressBook> readBackup(long generation) throws DataLoadingException;
+
+    /**
+     * Deletes all but the newest {@code retainedCount} backup generations, and the data only they referred to.
+     *
+     * @return the number of generations deleted.
+     * @throws IOException if there was any problem deleting them.
+     */
+    int pruneBackups(int retainedCount) throws IOException;
+
+}
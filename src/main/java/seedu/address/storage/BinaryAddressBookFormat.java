@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The layout of the binary snapshot of an address book:
+ * <pre>
+ * header:    int magic, int format version
+ * roles:     int count, then each role name as a string
+ * tags:      int count, then each tag format as a string
+ * tagGroups: int count, then each Tag Group name as a string
+ * persons:   int count, then for each person
+ *            long id, string name, string phone, string email, string address,
+ *            byte status (0 if none, else 1 + its ordinal),
+ *            int role count, then each role as an int index into the roles,
+ *            int tag count, then each tag as an int index into the tags
+ * trailer:   long CRC32C checksum of every byte before it
+ * </pre>
+ * Strings are written as an int byte length followed by their UTF-8 bytes. Numbers are big-endian.
+ */
+class BinaryAddressBookFormat {
+
+    static final int MAGIC = 0x41424B53;
+    static final int FORMAT_VERSION = 1;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Writes {@code value} as its byte length followed by its UTF-8 bytes.
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)} from {@code in}.
+     * The bytes are read as they arrive, so a corrupted length does not allocate more than the rest of the stream.
+     */
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative string length " + length);
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)} from {@code buffer} at its position.
+     *
+     * @throws IOException if the length of the string is negative or runs past the end of {@code buffer}.
+     */
+    static String readString(ByteBuffer buffer) throws IOException {
+        byte[] bytes = new byte[readStringLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Moves the position of {@code buffer} past the string written by {@link #writeString(DataOutput, String)} at it.
+     *
+     * @throws IOException if the length of the string is negative or runs past the end of {@code buffer}.
+     */
+    static void skipString(ByteBuffer buffer) throws IOException {
+        int length = readStringLength(buffer);
+        buffer.position(buffer.position() + length);
+    }
+
+    private static int readStringLength(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        // A corrupted length must not allocate more than the buffer could hold
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Invalid string length " + length);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookFormat.readString;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Status;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * Reads an address book in the layout described by {@link BinaryAddressBookFormat} from a stream.
+ * Each distinct role and tag is validated once, however many persons have it, and each field is validated once by
+ * the constructor of its model class.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "The file is not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "The snapshot format version %d is not supported.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "The snapshot is corrupted: its checksum does not match.";
+    public static final String MESSAGE_INVALID_INDEX = "The snapshot refers to a missing %s.";
+
+    private BinaryAddressBookReader() {}
+
+    /**
+     * Reads the address book from {@code in}.
+     *
+     * @throws IOException if {@code in} could not be read, is not a snapshot in a supported format version, or does
+     *     not match its checksum.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        List<TagGroup> tagGroups = new ArrayList<>();
+        List<Person> persons = read(in, tagGroups);
+        return JsonSerializableAddressBook.createAddressBook(persons, tagGroups);
+    }
+
+    /**
+     * Reads the persons from {@code in} and adds its Tag Groups to {@code tagGroups}, without checking either for
+     * duplicates.
+     *
+     * @throws IOException if {@code in} could not be read, is not a snapshot in a supported format version, or does
+     *     not match its checksum.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static List<Person> read(InputStream in, List<TagGroup> tagGroups)
+            throws IOException, IllegalValueException {
+        CheckedInputStream checkedIn = new CheckedInputStream(in, new CRC32C());
+        DataInputStream data = new DataInputStream(checkedIn);
+        if (data.readInt() != BinaryAddressBookFormat.MAGIC) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        int version = data.readInt();
+        if (version != BinaryAddressBookFormat.FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<Role> roles = new ArrayList<>();
+        List<Tag> tags = new ArrayList<>();
+        List<String> roleNames = readDictionary(data);
+        List<String> tagFormats = readDictionary(data);
+        List<String> groupNames = readDictionary(data);
+        try {
+            roleNames.forEach(roleName -> roles.add(Role.of(roleName)));
+            tagFormats.forEach(tagFormat -> tags.add(Tag.of(tagFormat)));
+            groupNames.forEach(groupName -> tagGroups.add(TagGroup.of(groupName)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+
+        int personCount = data.readInt();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(data, roles, tags));
+        }
+
+        long expectedChecksum = checkedIn.getChecksum().getValue();
+        if (data.readLong() != expectedChecksum) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        return persons;
+    }
+
+    private static List<String> readDictionary(DataInputStream data) throws IOException {
+        int size = data.readInt();
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values.add(readString(data));
+        }
+        return values;
+    }
+
+    private static Person readPerson(DataInputStream data, List<Role> roles, List<Tag> tags)
+            throws IOException, IllegalValueException {
+        long id = data.readLong();
+        if (!Person.isValidId(id)) {
+            throw new IllegalValueException(JsonAdaptedPerson.MESSAGE_INVALID_ID);
+        }
+
+        String name = readString(data);
+        String phone = readString(data);
+        String email = readString(data);
+        String address = readString(data);
+
+        int statusCode = data.readUnsignedByte();
+        if (statusCode > Status.values().length) {
+            throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
+        }
+        Optional<Status> status = statusCode == 0 ? Optional.empty() : Optional.of(Status.values()[statusCode - 1]);
+
+        Set<Role> personRoles = new HashSet<>();
+        int roleCount = data.readInt();
+        for (int i = 0; i < roleCount; i++) {
+            personRoles.add(lookUp(roles, data.readInt(), "role"));
+        }
+        Set<Tag> personTags = new HashSet<>();
+        int tagCount = data.readInt();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(lookUp(tags, data.readInt(), "tag"));
+        }
+
+        // The constructors validate the fields
+        try {
+            return new Person(id, new Name(name), new Phone(phone), new Email(email), new Address(address),
+                    personRoles, status, personTags);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static <T> T lookUp(List<T> dictionary, int index, String entryName) throws IllegalValueException {
+        if (index < 0 || index >= dictionary.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, entryName));
+        }
+        return dictionary.get(index);
+    }
+}
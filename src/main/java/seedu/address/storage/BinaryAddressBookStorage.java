@@ -0,0 +1,226 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexSnapshot;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk, in the layout described by
+ * {@link BinaryAddressBookFormat}. The snapshot is smaller and faster to load and save than the json file.
+ * The file is replaced atomically on save, and is read from its backup if it cannot be loaded.
+ * Optionally, the secondary indexes over the persons are kept in a {@link PersonIndexFile} next to the snapshot,
+ * which is reused on load while it matches the snapshot, and rebuilt in the background when it does not.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String SNAPSHOT_FILE_EXTENSION = ".bin";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final AtomicFileWriter fileWriter;
+    private final boolean isMapped;
+    private final boolean isIndexPersisted;
+
+    // Held while writing the index file, so that a rebuild never replaces the index file of a newer snapshot
+    private final Object indexWriteLock = new Object();
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath}, written and read as described by {@code settings}.
+     */
+    public BinaryAddressBookStorage(Path filePath, StorageSettings settings) {
+        this(filePath, new AtomicFileWriter(settings.isBackupEnabled()), settings.isMappedSnapshotEnabled(),
+                settings.isPersistedIndexesEnabled());
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath}, written through {@code fileWriter}.
+     * If {@code isMapped} is true, the snapshot is read as a {@link MappedAddressBookSnapshot}, which decodes each
+     * person when it is first accessed. If {@code isIndexPersisted} is true and the snapshot is not mapped, the
+     * secondary indexes over the persons are kept next to the snapshot.
+     */
+    public BinaryAddressBookStorage(Path filePath, AtomicFileWriter fileWriter, boolean isMapped,
+            boolean isIndexPersisted) {
+        requireNonNull(filePath);
+        requireNonNull(fileWriter);
+        this.filePath = filePath;
+        this.fileWriter = fileWriter;
+        this.isMapped = isMapped;
+        this.isIndexPersisted = isIndexPersisted && !isMapped;
+    }
+
+    /**
+     * Returns the path of the snapshot kept in place of the json file at {@code jsonFilePath}, which has the same
+     * name but with the extension {@code .bin}.
+     */
+    public static Path getSnapshotFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the file cannot be loaded but a backup of it exists, the backup is loaded instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            return readSnapshotFile(filePath);
+        } catch (DataLoadingException e) {
+            Path backupFilePath = AtomicFileWriter.getBackupFilePath(filePath);
+            if (!Files.exists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Could not load " + filePath + ", loading its backup " + backupFilePath);
+            return readSnapshotFile(backupFilePath);
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readSnapshotFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Snapshot file " + filePath + " found.");
+
+        try {
+            if (isMapped) {
+                return Optional.of(
+                        MappedAddressBookSnapshot.open(filePath, MappedAddressBookSnapshot.DEFAULT_CACHE_CAPACITY));
+            }
+            if (isIndexPersisted && filePath.equals(this.filePath)) {
+                return Optional.of(readSnapshotWithIndexes(filePath));
+            }
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+                return Optional.of(BinaryAddressBookReader.read(in));
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath}, restoring the indexes over its persons from its index file if the index
+     * file matches it. Otherwise, the indexes are built from the persons, and the index file is rebuilt in the
+     * background.
+     */
+    private ReadOnlyAddressBook readSnapshotWithIndexes(Path filePath) throws IOException, IllegalValueException {
+        long snapshotChecksum = PersonIndexFile.readSnapshotChecksum(filePath);
+        long snapshotLength = Files.size(filePath);
+        List<TagGroup> tagGroups = new ArrayList<>();
+        List<Person> persons;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            persons = BinaryAddressBookReader.read(in, tagGroups);
+        }
+
+        Path indexFilePath = PersonIndexFile.getIndexFilePath(filePath);
+        if (Files.exists(indexFilePath)) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(indexFilePath), BUFFER_SIZE)) {
+                PersonIndexSnapshot indexes = PersonIndexFile.read(in, snapshotChecksum, snapshotLength);
+                if (indexes.getPersonCount() == persons.size()) {
+                    return JsonSerializableAddressBook.createAddressBook(persons, tagGroups, indexes);
+                }
+            } catch (IOException e) {
+                logger.info("Not using index file " + indexFilePath + ": " + e.getMessage());
+            }
+        }
+
+        AddressBook addressBook = JsonSerializableAddressBook.createAddressBook(persons, tagGroups);
+        rebuildIndexFileInBackground(filePath, addressBook.getPersonList(), snapshotChecksum);
+        return addressBook;
+    }
+
+    private void rebuildIndexFileInBackground(Path filePath, List<Person> persons, long snapshotChecksum) {
+        List<Person> snapshotPersons = List.copyOf(persons);
+        Thread thread = new Thread(() -> {
+            try {
+                synchronized (indexWriteLock) {
+                    // A save meanwhile has written the index file of its own snapshot
+                    if (PersonIndexFile.readSnapshotChecksum(filePath) == snapshotChecksum) {
+                        writeIndexFile(filePath, snapshotPersons);
+                    }
+                }
+            } catch (IOException e) {
+                logger.warning("Failed to rebuild index file of " + filePath + ": " + e);
+            }
+        }, "index-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Writes the index file of the snapshot just written at {@code filePath}, which holds {@code persons}.
+     */
+    private void writeIndexFile(Path filePath, List<Person> persons) throws IOException {
+        long snapshotChecksum = PersonIndexFile.readSnapshotChecksum(filePath);
+        long snapshotLength = Files.size(filePath);
+        PersonIndexSnapshot indexes = PersonIndexSnapshot.of(persons);
+        fileWriter.write(PersonIndexFile.getIndexFilePath(filePath),
+                out -> PersonIndexFile.write(indexes, snapshotChecksum, snapshotLength, out));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!isIndexPersisted || !filePath.equals(this.filePath)) {
+            fileWriter.write(filePath, out -> BinaryAddressBookWriter.write(addressBook, out));
+            return;
+        }
+        synchronized (indexWriteLock) {
+            fileWriter.write(filePath, out -> BinaryAddressBookWriter.write(addressBook, out));
+            writeIndexFile(filePath, addressBook.getPersonList());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookFormat.writeString;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * Writes an address book to a stream in the layout described by {@link BinaryAddressBookFormat}.
+ * Each distinct role and tag is written once, and persons refer to it by its index.
+ */
+class BinaryAddressBookWriter {
+
+    private BinaryAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}, without closing it.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Map<String, Integer> roleIndexes = new LinkedHashMap<>();
+        Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            for (Role role : person.getRoles()) {
+                roleIndexes.putIfAbsent(role.roleName, roleIndexes.size());
+            }
+            for (Tag tag : person.getTags()) {
+                tagIndexes.putIfAbsent(tag.tagFormat, tagIndexes.size());
+            }
+        }
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32C());
+        DataOutputStream data = new DataOutputStream(checkedOut);
+        data.writeInt(BinaryAddressBookFormat.MAGIC);
+        data.writeInt(BinaryAddressBookFormat.FORMAT_VERSION);
+        writeDictionary(data, roleIndexes);
+        writeDictionary(data, tagIndexes);
+
+        data.writeInt(addressBook.getTagGroups().size());
+        for (TagGroup group : addressBook.getTagGroups()) {
+            writeString(data, group.getName());
+        }
+
+        data.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            data.writeLong(person.getId());
+            writeString(data, person.getName().fullName);
+            writeString(data, person.getPhone().value);
+            writeString(data, person.getEmail().value);
+            writeString(data, person.getAddress().value);
+            data.writeByte(person.getStatus().map(status -> status.ordinal() + 1).orElse(0));
+            data.writeInt(person.getRoles().size());
+            for (Role role : person.getRoles()) {
+                data.writeInt(roleIndexes.get(role.roleName));
+            }
+            data.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                data.writeInt(tagIndexes.get(tag.tagFormat));
+            }
+        }
+
+        // The checksum covers everything written before it
+        data.flush();
+        data.writeLong(checkedOut.getChecksum().getValue());
+        data.flush();
+    }
+
+    private static void writeDictionary(DataOutputStream data, Map<String, Integer> indexes) throws IOException {
+        data.writeInt(indexes.size());
+        for (String value : indexes.keySet()) {
+            writeString(data, value);
+        }
+    }
+}
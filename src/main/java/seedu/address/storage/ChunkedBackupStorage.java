@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * A {@code BackupStorage} that keeps each person as a content-addressed chunk: a compact json file named after the
+ * SHA-256 hash of its content, under {@code chunks}. A person unchanged since an earlier backup therefore has the same
+ * chunk, which is stored once however many generations refer to it.
+ * Each generation is a small manifest, {@code generation-NNNNNN.json}, listing the ids of the chunks of its persons in
+ * order, together with its Tag Groups. The chunks are written before the manifest, so a failed backup never leaves a
+ * manifest referring to a missing chunk.
+ * The chunk of each person last backed up or restored is remembered by identity, so backing up or restoring only
+ * serializes or reads the persons changed since.
+ */
+public class ChunkedBackupStorage implements BackupStorage {
+
+    public static final String MESSAGE_CORRUPTED_CHUNK = "Backup chunk %s is corrupted: its content does not match "
+            + "its id.";
+    public static final String MESSAGE_MISSING_CHUNK = "Backup chunk %s is missing.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Backup generation %d contains duplicate person(s).";
+
+    private static final Logger logger = LogsCenter.getLogger(ChunkedBackupStorage.class);
+
+    private static final String BACKUP_DIRECTORY_EXTENSION = ".backups";
+    private static final String CHUNK_DIRECTORY_NAME = "chunks";
+    private static final String CHUNK_FILE_EXTENSION = ".json";
+    private static final String MANIFEST_FILE_NAME_FORMAT = "generation-%06d.json";
+    private static final Pattern MANIFEST_FILE_NAME_PATTERN = Pattern.compile("generation-(\\d{6,18})\\.json");
+    private static final Pattern CHUNK_ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path directory;
+    private final AtomicFileWriter fileWriter;
+
+    // The chunk of each person last backed up or restored, and the other way round
+    private Map<Person, String> chunkIdsByPerson = new IdentityHashMap<>();
+    private Map<String, Person> personsByChunkId = new HashMap<>();
+
+    // The ids of the chunks stored, listed on the first backup
+    private Set<String> storedChunkIds;
+
+    /**
+     * Creates a storage keeping the backups in {@code directory}.
+     */
+    public ChunkedBackupStorage(Path directory) {
+        this(directory, new AtomicFileWriter(false));
+    }
+
+    /**
+     * Creates a storage keeping the backups in {@code directory}, writing each file through {@code fileWriter}.
+     */
+    public ChunkedBackupStorage(Path directory, AtomicFileWriter fileWriter) {
+        requireNonNull(directory);
+        requireNonNull(fileWriter);
+        this.directory = directory;
+        this.fileWriter = fileWriter;
+    }
+
+    /**
+     * Returns the path of the directory the backups of the data file at {@code dataFilePath} are kept in, next to it
+     * with the same name but with the extension {@code .backups}.
+     */
+    public static Path getBackupDirectoryPath(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return dataFilePath.resolveSibling(baseName + BACKUP_DIRECTORY_EXTENSION);
+    }
+
+    /**
+     * Returns true if {@code chunkId} is a valid chunk id, i.e. a lower-case hexadecimal SHA-256 hash.
+     */
+    static boolean isChunkId(String chunkId) {
+        return CHUNK_ID_PATTERN.matcher(chunkId).matches();
+    }
+
+    /**
+     * Returns the id of the chunk with {@code content}.
+     */
+    static String getChunkId(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+    }
+
+    @Override
+    public Path getBackupDirectoryPath() {
+        return directory;
+    }
+
+    @Override
+    public synchronized BackupGeneration backUpAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        Set<String> chunkIds = getStoredChunkIds();
+        Map<Person, String> backedUpChunkIds = new IdentityHashMap<>();
+        Map<String, Person> backedUpPersons = new HashMap<>();
+        List<String> manifestChunkIds = new ArrayList<>(addressBook.getPersonList().size());
+        int newChunkCount = 0;
+
+        for (Person person : addressBook.getPersonList()) {
+            String chunkId = chunkIdsByPerson.get(person);
+            if (chunkId == null) {
+                byte[] content = JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person))
+                        .getBytes(StandardCharsets.UTF_8);
+                chunkId = getChunkId(content);
+                if (!chunkIds.contains(chunkId)) {
+                    fileWriter.write(getChunkFilePath(chunkId), out -> out.write(content));
+                    chunkIds.add(chunkId);
+                    newChunkCount++;
+                }
+            }
+            manifestChunkIds.add(chunkId);
+            backedUpChunkIds.put(person, chunkId);
+            backedUpPersons.put(chunkId, person);
+        }
+
+        List<Long> generations = getBackupGenerations();
+        long generation = generations.isEmpty() ? 1 : generations.get(generations.size() - 1) + 1;
+        Instant createdAt = Instant.now();
+        JsonBackupManifest manifest = new JsonBackupManifest(generation, createdAt.toEpochMilli(), newChunkCount,
+                manifestChunkIds, addressBook.getTagGroups());
+        fileWriter.write(getManifestFilePath(generation), JsonUtil.toCompactJsonString(manifest));
+
+        chunkIdsByPerson = backedUpChunkIds;
+        personsByChunkId = backedUpPersons;
+        logger.info("Backed up " + manifestChunkIds.size() + " persons as generation " + generation + ", writing "
+                + newChunkCount + " new chunks");
+        return new BackupGeneration(generation, createdAt, manifestChunkIds.size(), newChunkCount);
+    }
+
+    @Override
+    public List<Long> getBackupGenerations() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return generations;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "generation-*.json")) {
+            for (Path file : files) {
+                Matcher matcher = MANIFEST_FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    generations.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    @Override
+    public Optional<Instant> getLatestBackupTime() throws DataLoadingException {
+        List<Long> generations;
+        try {
+            generations = getBackupGenerations();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        if (generations.isEmpty()) {
+            return Optional.empty();
+        }
+        return readManifest(generations.get(generations.size() - 1))
+                .map(manifest -> Instant.ofEpochMilli(manifest.getCreatedAt()));
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readBackup(long generation) throws DataLoadingException {
+        Optional<JsonBackupManifest> manifest = readManifest(generation);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        Map<Person, String> restoredChunkIds = new IdentityHashMap<>();
+        Map<String, Person> restoredPersons = new HashMap<>();
+        try {
+            for (TagGroup group : manifest.get().toModelTagGroups()) {
+                addressBook.addTagGroup(group);
+            }
+            for (String chunkId : manifest.get().toChunkIds()) {
+                Person person = personsByChunkId.get(chunkId);
+                if (person == null) {
+                    person = readChunk(chunkId);
+                }
+                addressBook.addPerson(person);
+                restoredChunkIds.put(person, chunkId);
+                restoredPersons.put(chunkId, person);
+            }
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(new IllegalValueException(
+                    String.format(MESSAGE_DUPLICATE_PERSON, generation)));
+        }
+
+        chunkIdsByPerson = restoredChunkIds;
+        personsByChunkId = restoredPersons;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public synchronized int pruneBackups(int retainedCount) throws IOException {
+        List<Long> generations = getBackupGenerations();
+        int prunedCount = Math.max(0, generations.size() - Math.max(retainedCount, 0));
+        if (prunedCount == 0) {
+            return 0;
+        }
+
+        Set<String> referencedChunkIds = new HashSet<>();
+        for (long generation : generations.subList(prunedCount, generations.size())) {
+            try {
+                referencedChunkIds.addAll(readManifest(generation).orElseThrow().toChunkIds());
+            } catch (DataLoadingException | IllegalValueException e) {
+                // Deleting chunks a damaged manifest may refer to could lose more of it, so nothing is swept
+                logger.warning("Could not read backup generation " + generation + ", keeping all chunks: " + e);
+                referencedChunkIds = null;
+                break;
+            }
+        }
+        for (long generation : generations.subList(0, prunedCount)) {
+            Files.deleteIfExists(getManifestFilePath(generation));
+        }
+        if (referencedChunkIds != null) {
+            deleteUnreferencedChunks(referencedChunkIds);
+        }
+        logger.info("Pruned " + prunedCount + " backup generations");
+        return prunedCount;
+    }
+
+    /**
+     * Deletes the chunks other than {@code referencedChunkIds}, and forgets the persons they held.
+     */
+    private void deleteUnreferencedChunks(Set<String> referencedChunkIds) throws IOException {
+        Path chunkDirectory = directory.resolve(CHUNK_DIRECTORY_NAME);
+        if (!Files.isDirectory(chunkDirectory)) {
+            return;
+        }
+        List<Path> unreferencedChunks;
+        try (Stream<Path> files = Files.walk(chunkDirectory, 2)) {
+            unreferencedChunks = files.filter(file -> isChunkFile(file)
+                    && !referencedChunkIds.contains(getChunkIdOf(file))).toList();
+        }
+        for (Path chunk : unreferencedChunks) {
+            String chunkId = getChunkIdOf(chunk);
+            Files.deleteIfExists(chunk);
+            if (storedChunkIds != null) {
+                storedChunkIds.remove(chunkId);
+            }
+            Person person = personsByChunkId.remove(chunkId);
+            if (person != null) {
+                chunkIdsByPerson.remove(person);
+            }
+        }
+    }
+
+    private Optional<JsonBackupManifest> readManifest(long generation) throws DataLoadingException {
+        return JsonUtil.readJsonFile(getManifestFilePath(generation), JsonBackupManifest.class);
+    }
+
+    /**
+     * Reads the person in the chunk with {@code chunkId}, checking that its content still has that id.
+     */
+    private Person readChunk(String chunkId) throws IOException, IllegalValueException {
+        Path chunkFile = getChunkFilePath(chunkId);
+        if (!Files.exists(chunkFile)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_CHUNK, chunkId));
+        }
+        byte[] content = Files.readAllBytes(chunkFile);
+        if (!getChunkId(content).equals(chunkId)) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_CHUNK, chunkId));
+        }
+        return JsonUtil.fromJsonString(new String(content, StandardCharsets.UTF_8), JsonAdaptedPerson.class)
+                .toModelType();
+    }
+
+    private Set<String> getStoredChunkIds() throws IOException {
+        if (storedChunkIds != null) {
+            return storedChunkIds;
+        }
+        Set<String> chunkIds = new HashSet<>();
+        Path chunkDirectory = directory.resolve(CHUNK_DIRECTORY_NAME);
+        if (Files.isDirectory(chunkDirectory)) {
+            try (Stream<Path> files = Files.walk(chunkDirectory, 2)) {
+                files.filter(ChunkedBackupStorage::isChunkFile).forEach(file -> chunkIds.add(getChunkIdOf(file)));
+            }
+        }
+        storedChunkIds = chunkIds;
+        return storedChunkIds;
+    }
+
+    /**
+     * Returns the path of the chunk with {@code chunkId}, in a subdirectory named after the first two characters of
+     * the id so that no directory holds too many files.
+     */
+    Path getChunkFilePath(String chunkId) {
+        return directory.resolve(CHUNK_DIRECTORY_NAME).resolve(chunkId.substring(0, 2))
+                .resolve(chunkId + CHUNK_FILE_EXTENSION);
+    }
+
+    private Path getManifestFilePath(long generation) {
+        return directory.resolve(String.format(MANIFEST_FILE_NAME_FORMAT, generation));
+    }
+
+    private static boolean isChunkFile(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.endsWith(CHUNK_FILE_EXTENSION) && isChunkId(getChunkIdOf(file));
+    }
+
+    private static String getChunkIdOf(Path chunkFile) {
+        String fileName = chunkFile.getFileName().toString();
+        return fileName.substring(0, Math.max(0, fileName.length() - CHUNK_FILE_EXTENSION.length()));
+    }
+}
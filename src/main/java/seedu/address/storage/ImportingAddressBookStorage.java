@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that also imports the data files other storages keep in different formats.
+ * The newest other data file is read instead when it was modified after the data file of this storage, e.g. because
+ * the app used its format until the data file format was switched. Saves always go to this storage, so the imported
+ * data is written in its format by the next save.
+ */
+public class ImportingAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ImportingAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final List<AddressBookStorage> importedStorages;
+
+    /**
+     * Creates a storage reading and writing {@code storage}, which imports the data file of the
+     * {@code importedStorages} that is newest when it is newer.
+     */
+    public ImportingAddressBookStorage(AddressBookStorage storage, AddressBookStorage... importedStorages) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.importedStorages = List.of(importedStorages);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        AddressBookStorage newestStorage = storage;
+        for (AddressBookStorage importedStorage : importedStorages) {
+            if (isNewer(importedStorage.getAddressBookFilePath(), newestStorage.getAddressBookFilePath())) {
+                newestStorage = importedStorage;
+            }
+        }
+        if (newestStorage != storage) {
+            logger.info("Importing " + newestStorage.getAddressBookFilePath() + ", which is newer than "
+                    + getAddressBookFilePath());
+        }
+        return newestStorage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        // StorageManager reads the data file through this method, which must import as well
+        if (filePath.equals(getAddressBookFilePath())) {
+            return readAddressBook();
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Returns true if the file at {@code file} exists and was modified after the file at {@code otherFile} and its
+     * journal, if any.
+     */
+    private static boolean isNewer(Path file, Path otherFile) throws DataLoadingException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try {
+            FileTime lastModified = Files.getLastModifiedTime(file);
+            return isOlderOrMissing(otherFile, lastModified)
+                    && isOlderOrMissing(JournaledAddressBookStorage.getJournalFilePath(otherFile), lastModified);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static boolean isOlderOrMissing(Path file, FileTime time) throws IOException {
+        return !Files.exists(file) || Files.getLastModifiedTime(file).compareTo(time) < 0;
+    }
+}
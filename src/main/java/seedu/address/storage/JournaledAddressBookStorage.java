@@ -0,0 +1,302 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.JournalSyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * A class to access AddressBook data stored as a json file plus an append-only journal of later changes.
+ * Saving appends one compact record per added, edited or deleted person and per added or removed Tag Group to
+ * the journal, instead of rewriting the json file. The json file is only rewritten on a checkpoint, once the
+ * journal holds {@link StorageSettings#getJournalCheckpointInterval()} records, after which the journal is emptied.
+ * Reading replays the journal on top of the json file.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    public static final String MESSAGE_JOURNAL_ON_BACKUP = "The data file could not be loaded, and its journal "
+            + "cannot be replayed onto its backup, which is older than the journal: %1$s";
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private final Path filePath;
+    private final StorageSettings settings;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    // What the json file and the journal at filePath hold together; null until they are first read or written
+    private Map<Long, Person> persistedPersons;
+    private Set<TagGroup> persistedTagGroups;
+    private int journalRecordCount;
+    private boolean isCheckpointNeeded;
+
+    /**
+     * Creates a storage for the json file at {@code filePath}, journaled as described by {@code settings}.
+     */
+    public JournaledAddressBookStorage(Path filePath, StorageSettings settings) {
+        requireNonNull(filePath);
+        requireNonNull(settings);
+        this.filePath = filePath;
+        this.settings = settings;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, settings);
+    }
+
+    /**
+     * Returns the path of the journal kept next to the json file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A last journal record that was cut short by a crash is skipped.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        // Records of persons given new ids would not match them once the json file is read again
+        boolean hasNewIds = snapshotStorage.hasNewIds();
+        // The backup is the json file from before the last checkpoint, so the journal does not follow on from it
+        boolean isBackupRead = snapshotStorage.isBackupRead();
+        Path journalPath = getJournalFilePath(filePath);
+        if (!Files.exists(journalPath)) {
+            if (filePath.equals(this.filePath)) {
+                snapshot.ifPresent(addressBook -> markPersisted(addressBook, 0));
+                isCheckpointNeeded = hasNewIds || isBackupRead;
+            }
+            return snapshot;
+        }
+        if (isBackupRead) {
+            logger.warning("Not replaying journal file " + journalPath + " onto the backup of " + filePath);
+            throw new DataLoadingException(new IOException(String.format(MESSAGE_JOURNAL_ON_BACKUP, journalPath)));
+        }
+
+        Map<Long, Person> persons = new LinkedHashMap<>();
+        Set<TagGroup> tagGroups = new LinkedHashSet<>();
+        snapshot.ifPresent(addressBook -> {
+            addressBook.getPersonList().forEach(person -> persons.put(person.getId(), person));
+            tagGroups.addAll(addressBook.getTagGroups());
+        });
+
+        String journal;
+        try {
+            journal = FileUtil.readFromFile(journalPath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        boolean isTailComplete = journal.isEmpty() || journal.endsWith("\n");
+        String[] lines = journal.split("\n");
+        int recordCount = 0;
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            boolean isTail = i == lines.length - 1 && !isTailComplete;
+            try {
+                JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalRecord.class).applyTo(persons, tagGroups);
+                recordCount++;
+            } catch (IOException e) {
+                if (!isTail) {
+                    logger.warning("Error reading record " + (i + 1) + " of journal file " + journalPath + ": " + e);
+                    throw new DataLoadingException(e);
+                }
+                logger.warning("Skipping incomplete last record of journal file " + journalPath);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(new ArrayList<>(persons.values()));
+        } catch (DuplicatePersonException dpe) {
+            String conflicts = String.join("\n", dpe.getConflicts());
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON + "\n" + conflicts));
+        }
+        addressBook.setTagGroups(tagGroups);
+
+        if (filePath.equals(this.filePath)) {
+            markPersisted(addressBook, recordCount);
+            // Appending after an incomplete record would corrupt the journal
+            isCheckpointNeeded = !isTailComplete || hasNewIds;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's own always rewrites the json file there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath) || persistedPersons == null || isCheckpointNeeded) {
+            checkpoint(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = recordChanges(addressBook);
+        if (records.isEmpty()) {
+            return;
+        }
+
+        try {
+            appendToJournal(records);
+        } catch (IOException e) {
+            // Part of the records may have been written, so the journal must not be appended to again
+            isCheckpointNeeded = true;
+            throw e;
+        }
+        journalRecordCount += records.size();
+
+        if (journalRecordCount >= settings.getJournalCheckpointInterval()) {
+            checkpoint(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Rewrites the json file at {@code filePath} with {@code addressBook} and deletes its journal.
+     */
+    private void checkpoint(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine("Checkpointing journaled data to file: " + filePath);
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        if (filePath.equals(this.filePath)) {
+            markPersisted(addressBook, 0);
+            isCheckpointNeeded = false;
+        }
+    }
+
+    /**
+     * Returns the records of the differences between {@code addressBook} and what is persisted, and treats them
+     * as persisted. Persons are matched by id, and are only recorded if they are not the very instance persisted.
+     */
+    private List<JsonAdaptedJournalRecord> recordChanges(ReadOnlyAddressBook addressBook) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        List<Person> putPersons = new ArrayList<>();
+        int unchangedOrEditedCount = 0;
+        for (Person person : addressBook.getPersonList()) {
+            Person persisted = persistedPersons.get(person.getId());
+            if (persisted != null) {
+                unchangedOrEditedCount++;
+            }
+            if (persisted != person) {
+                records.add(JsonAdaptedJournalRecord.putPerson(person));
+                putPersons.add(person);
+            }
+        }
+
+        List<Long> deletedIds = new ArrayList<>();
+        if (unchangedOrEditedCount < persistedPersons.size()) {
+            Set<Long> currentIds = new HashSet<>();
+            addressBook.getPersonList().forEach(person -> currentIds.add(person.getId()));
+            for (Long id : persistedPersons.keySet()) {
+                if (!currentIds.contains(id)) {
+                    records.add(JsonAdaptedJournalRecord.deletePerson(id));
+                    deletedIds.add(id);
+                }
+            }
+        }
+
+        Set<TagGroup> currentTagGroups = addressBook.getTagGroups();
+        for (TagGroup group : currentTagGroups) {
+            if (!persistedTagGroups.contains(group)) {
+                records.add(JsonAdaptedJournalRecord.addTagGroup(group));
+            }
+        }
+        for (TagGroup group : persistedTagGroups) {
+            if (!currentTagGroups.contains(group)) {
+                records.add(JsonAdaptedJournalRecord.removeTagGroup(group));
+            }
+        }
+
+        putPersons.forEach(person -> persistedPersons.put(person.getId(), person));
+        deletedIds.forEach(persistedPersons::remove);
+        persistedTagGroups = new HashSet<>(currentTagGroups);
+        return records;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        Path journalPath = getJournalFilePath(filePath);
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (settings.getJournalSyncPolicy() == JournalSyncPolicy.ALWAYS) {
+                channel.force(false);
+            }
+        }
+    }
+
+    private void markPersisted(ReadOnlyAddressBook addressBook, int journalRecordCount) {
+        persistedPersons = new HashMap<>();
+        addressBook.getPersonList().forEach(person -> persistedPersons.put(person.getId(), person));
+        persistedTagGroups = new HashSet<>(addressBook.getTagGroups());
+        this.journalRecordCount = journalRecordCount;
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * Jackson-friendly version of one change to an address book, as appended to a journal.
+ * Every record carries the whole new state of the person or Tag Group it changes, so replaying a journal on top
+ * of a data file that already contains some of its changes gives the same address book.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    enum Operation {
+        PUT_PERSON, DELETE_PERSON, ADD_TAG_GROUP, REMOVE_TAG_GROUP
+    }
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    private final Operation op;
+    private final Long id;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedTagGroup tagGroup;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") Operation op, @JsonProperty("id") Long id,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("tagGroup") JsonAdaptedTagGroup tagGroup) {
+        this.op = op;
+        this.id = id;
+        this.person = person;
+        this.tagGroup = tagGroup;
+    }
+
+    /**
+     * Returns a record of {@code person} being added or replacing the person with the same id.
+     */
+    public static JsonAdaptedJournalRecord putPerson(Person person) {
+        return new JsonAdaptedJournalRecord(Operation.PUT_PERSON, null, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record of the person with the given {@code id} being deleted.
+     */
+    public static JsonAdaptedJournalRecord deletePerson(long id) {
+        return new JsonAdaptedJournalRecord(Operation.DELETE_PERSON, id, null, null);
+    }
+
+    /**
+     * Returns a record of {@code group} being added.
+     */
+    public static JsonAdaptedJournalRecord addTagGroup(TagGroup group) {
+        return new JsonAdaptedJournalRecord(Operation.ADD_TAG_GROUP, null, null, new JsonAdaptedTagGroup(group));
+    }
+
+    /**
+     * Returns a record of {@code group} being removed.
+     */
+    public static JsonAdaptedJournalRecord removeTagGroup(TagGroup group) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE_TAG_GROUP, null, null, new JsonAdaptedTagGroup(group));
+    }
+
+    /**
+     * Applies this change to {@code persons}, keyed by id in list order, and {@code tagGroups}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted record.
+     */
+    public void applyTo(Map<Long, Person> persons, Set<TagGroup> tagGroups) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+
+        switch (op) {
+        case PUT_PERSON:
+            Person modelPerson = requirePresent(person, "person").toModelType();
+            persons.put(modelPerson.getId(), modelPerson);
+            break;
+        case DELETE_PERSON:
+            persons.remove(requirePresent(id, "id"));
+            break;
+        case ADD_TAG_GROUP:
+            tagGroups.add(requirePresent(tagGroup, "tagGroup").toModelType());
+            break;
+        case REMOVE_TAG_GROUP:
+            tagGroups.remove(requirePresent(tagGroup, "tagGroup").toModelType());
+            break;
+        default:
+            throw new AssertionError("Unknown journal operation: " + op);
+        }
+    }
+
+    private static <T> T requirePresent(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
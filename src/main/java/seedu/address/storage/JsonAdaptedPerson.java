@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongFunction;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -27,7 +28,9 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_INVALID_ID = "Person's id should be a positive number.";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -38,12 +41,14 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * {@code id} may be null for persons saved before ids were introduced; they are given a new id when loaded.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-        @JsonProperty("email") String email, @JsonProperty("address") String address,
-         @JsonProperty("roles") List<JsonAdaptedRole> roles, @JsonProperty("status") String status,
-         @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+        @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+        @JsonProperty("address") String address, @JsonProperty("roles") List<JsonAdaptedRole> roles,
+        @JsonProperty("status") String status, @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -57,10 +62,19 @@ class JsonAdaptedPerson {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} without an id with the given person details.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, List<JsonAdaptedRole> roles,
+        String status, List<JsonAdaptedTag> tags) {
+        this(null, name, phone, email, address, roles, status, tags);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -76,12 +90,32 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if this person was saved with an id.
+     */
+    boolean hasId() {
+        return id != null;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * A person saved without an id is given a new one.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        LongFunction<Person> personWithId = toModelTypeWithId();
+        return personWithId.apply(hasId() ? id : Person.nextId());
+    }
+
+    /**
+     * Checks this Jackson-friendly adapted person object against the data constraints, and returns a function
+     * converting it into the model's {@code Person} object with the id given to the function. This lets a person
+     * saved without an id be checked before the id it is given is known.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    LongFunction<Person> toModelTypeWithId() throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -130,9 +164,14 @@ class JsonAdaptedPerson {
             modelStatus = Optional.empty();
         }
 
+        if (id != null && !Person.isValidId(id)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
+        }
+
         final Set<Role> modelRoles = new HashSet<>(personRoles);
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelRoles, modelStatus, modelTags);
+        return personId -> new Person(personId, modelName, modelPhone, modelEmail, modelAddress, modelRoles,
+                modelStatus, modelTags);
     }
 
 }
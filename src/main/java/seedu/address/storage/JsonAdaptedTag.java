@@ -42,7 +42,7 @@ class JsonAdaptedTag {
         if (!Tag.isValidTagFormat(tagFormat)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagFormat);
+        return Tag.of(tagFormat);
     }
 
 }
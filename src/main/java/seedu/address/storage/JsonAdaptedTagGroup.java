@@ -45,7 +45,7 @@ public class JsonAdaptedTagGroup {
         }
 
         try {
-            return new TagGroup(name);
+            return TagGroup.of(name);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException("Invalid Tag Group name: " + e.getMessage());
         }
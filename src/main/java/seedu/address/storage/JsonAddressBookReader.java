@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * Reads an address book in the format of {@link JsonSerializableAddressBook} from a stream, one person at a time.
+ * The persons read are converted to {@code Person}s in chunks by a {@link ParallelPersonConverter} while the next ones
+ * are read, so neither the whole file nor all of its {@code JsonAdaptedPerson}s are ever held in memory at once.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NULL_ELEMENT = "The %s list contains a null element!";
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book from {@code in}. Fields other than the persons and Tag Groups are skipped.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold a JSON object.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        return read(in, newIdCount -> {});
+    }
+
+    /**
+     * Similar to {@link #read(InputStream)}, also passing {@code newIdCountConsumer} the number of persons that were
+     * saved without an id and were given a new one.
+     */
+    public static AddressBook read(InputStream in, IntConsumer newIdCountConsumer)
+            throws IOException, IllegalValueException {
+        List<TagGroup> tagGroups = new ArrayList<>();
+        List<Person> persons = read(in, tagGroups, newIdCountConsumer);
+        return JsonSerializableAddressBook.createAddressBook(persons, tagGroups);
+    }
+
+    /**
+     * Reads the persons from {@code in} and adds its Tag Groups to {@code tagGroups}, without checking either for
+     * duplicates. Fields other than the persons and Tag Groups are skipped.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold a JSON object.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static List<Person> read(InputStream in, List<TagGroup> tagGroups)
+            throws IOException, IllegalValueException {
+        return read(in, tagGroups, newIdCount -> {});
+    }
+
+    private static List<Person> read(InputStream in, List<TagGroup> tagGroups, IntConsumer newIdCountConsumer)
+            throws IOException, IllegalValueException {
+        ParallelPersonConverter personConverter = new ParallelPersonConverter();
+        try {
+            readFields(in, personConverter, tagGroups);
+        } catch (IOException | IllegalValueException e) {
+            // Reading sequentially would have failed on an invalid person read before this failure instead
+            personConverter.finish();
+            throw e;
+        }
+        List<Person> persons = personConverter.finish();
+        newIdCountConsumer.accept(personConverter.getNewIdCount());
+        return persons;
+    }
+
+    private static void readFields(InputStream in, ParallelPersonConverter personConverter, List<TagGroup> tagGroups)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (fieldName) {
+                case "persons":
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        personConverter.add(readElement(parser, JsonAdaptedPerson.class, "persons"));
+                    }
+                    break;
+                case "tagGroups":
+                    if (value == JsonToken.VALUE_NULL) {
+                        break;
+                    }
+                    expect(parser, value, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        tagGroups.add(readElement(parser, JsonAdaptedTagGroup.class, "tagGroups").toModelType());
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+        }
+    }
+
+    private static <T> T readElement(JsonParser parser, Class<T> elementClass, String listName)
+            throws IOException, IllegalValueException {
+        T element = parser.readValueAs(elementClass);
+        if (element == null) {
+            throw new IllegalValueException(String.format(MESSAGE_NULL_ELEMENT, listName));
+        }
+        return element;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -2,35 +2,86 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.AtomicFileWriter;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is replaced atomically on save, and is read from its backup if it cannot be loaded.
+ * The file is gzip-compressed if its name ends with {@code .gz} or the settings enable compression; a compressed file
+ * is recognised by its content when read, whatever its name.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String GZIP_FILE_EXTENSION = ".gz";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
     private Path filePath;
+    private final StorageSettings settings;
+    private final AtomicFileWriter fileWriter;
+    private volatile boolean hasNewIds;
+    private volatile boolean isBackupRead;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, new StorageSettings());
+    }
+
+    /**
+     * Creates a storage for the json file at {@code filePath}, written as described by {@code settings}.
+     */
+    public JsonAddressBookStorage(Path filePath, StorageSettings settings) {
+        this(filePath, settings, new AtomicFileWriter(settings.isBackupEnabled()));
+    }
+
+    /**
+     * Creates a storage for the json file at {@code filePath}, written through {@code fileWriter} as described by
+     * {@code settings}.
+     */
+    public JsonAddressBookStorage(Path filePath, StorageSettings settings, AtomicFileWriter fileWriter) {
+        requireNonNull(settings);
+        requireNonNull(fileWriter);
         this.filePath = filePath;
+        this.settings = settings;
+        this.fileWriter = fileWriter;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns true if some of the persons last read were saved without an id, so that the ids they were given are
+     * not saved yet.
+     */
+    boolean hasNewIds() {
+        return hasNewIds;
+    }
+
+    /**
+     * Returns true if the persons last read were read from the backup, as the file itself could not be loaded.
+     */
+    boolean isBackupRead() {
+        return isBackupRead;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -38,6 +89,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the file cannot be loaded but a backup of it exists, the backup is loaded instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +97,32 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        isBackupRead = false;
+        try {
+            return readAddressBookFile(filePath);
+        } catch (DataLoadingException e) {
+            Path backupFilePath = AtomicFileWriter.getBackupFilePath(filePath);
+            if (!Files.exists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Could not load " + filePath + ", loading its backup " + backupFilePath);
+            isBackupRead = true;
+            return readAddressBookFile(backupFilePath);
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        hasNewIds = false;
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = openDecompressedStream(filePath)) {
+            return Optional.of(JsonAddressBookReader.read(in, newIdCount -> hasNewIds = newIdCount > 0));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +143,55 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        boolean isCompact = settings.isCompactJsonEnabled();
+        if (!settings.isGzipEnabled() && !filePath.getFileName().toString().endsWith(GZIP_FILE_EXTENSION)) {
+            fileWriter.write(filePath, out -> JsonAddressBookWriter.write(addressBook, out, isCompact));
+            return;
+        }
+
+        fileWriter.write(filePath, out -> {
+            FastGzipOutputStream gzipOut = new FastGzipOutputStream(out);
+            try {
+                JsonAddressBookWriter.write(addressBook, gzipOut, isCompact);
+                gzipOut.finish();
+            } finally {
+                gzipOut.releaseCompressor();
+            }
+        });
+    }
+
+    /**
+     * Opens the file at {@code filePath}, decompressing its content if it is gzip-compressed.
+     */
+    private static InputStream openDecompressedStream(Path filePath) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(filePath), GZIP_BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(in, GZIP_BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * A gzip stream compressing at the fastest level, which makes files barely larger than the default level does
+     * for the repetitive json of address books, in about half the time.
+     */
+    private static class FastGzipOutputStream extends GZIPOutputStream {
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, GZIP_BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+
+        /**
+         * Frees the memory held by the compressor, without closing the underlying stream.
+         */
+        void releaseCompressor() {
+            def.end();
+        }
     }
 
 }
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * Writes an address book in the format of {@link JsonSerializableAddressBook} to a stream, one person at a time.
+ * Each person is adapted and written on its own, so the memory used does not grow with the number of persons.
+ */
+class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}, without closing it.
+     * The output is on a single line if {@code isCompact} is true, and pretty-printed otherwise.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact)
+            throws IOException {
+        write(addressBook.getPersonList(), addressBook.getTagGroups(), out, isCompact);
+    }
+
+    /**
+     * Writes an address book holding {@code persons} and {@code tagGroups} to {@code out}, without closing it.
+     * The output is on a single line if {@code isCompact} is true, and pretty-printed otherwise.
+     */
+    public static void write(List<Person> persons, Collection<TagGroup> tagGroups, OutputStream out,
+            boolean isCompact) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("tagGroups");
+            for (TagGroup group : tagGroups) {
+                generator.writeObject(new JsonAdaptedTagGroup(group));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ArchivedPersonKeys;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An {@code ArchiveStorage} that keeps the archived persons in a gzip-compressed compact json file in the usual address
+ * book format, with the phone number and email hashes of the persons in a key file next to it.
+ * The archive is only read when the archived persons are asked for, or when the key file is missing or stale. Each
+ * archiving rewrites the whole archive, then the key file, so a failed archiving leaves at worst a stale key file,
+ * which is rebuilt from the archive on the next read.
+ */
+public class JsonArchiveStorage implements ArchiveStorage {
+
+    public static final String MESSAGE_PHONE_ARCHIVED = "%1$s has the phone number of an archived contact (%2$s).";
+    public static final String MESSAGE_EMAIL_ARCHIVED = "%1$s has the email of an archived contact (%2$s).";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonArchiveStorage.class);
+
+    private static final String ARCHIVE_FILE_EXTENSION = ".archive.json.gz";
+
+    private final Path archiveFilePath;
+    private final JsonAddressBookStorage archive;
+    private final AtomicFileWriter fileWriter;
+
+    /**
+     * Creates a storage keeping the archived persons in {@code archiveFilePath}, which should end with {@code .gz}.
+     */
+    public JsonArchiveStorage(Path archiveFilePath) {
+        requireNonNull(archiveFilePath);
+        this.archiveFilePath = archiveFilePath;
+        fileWriter = new AtomicFileWriter(false);
+        archive = new JsonAddressBookStorage(archiveFilePath,
+                new StorageSettings().withCompactJsonEnabled(true).withGzipEnabled(true), fileWriter);
+    }
+
+    /**
+     * Returns the path of the archive of the data file at {@code dataFilePath}, next to it with the same name but with
+     * the extension {@code .archive.json.gz}.
+     */
+    public static Path getArchiveFilePath(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return dataFilePath.resolveSibling(baseName + ARCHIVE_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getArchiveFilePath() {
+        return archiveFilePath;
+    }
+
+    @Override
+    public synchronized ArchivedPersonKeys readArchivedPersonKeys() throws DataLoadingException {
+        if (!Files.exists(archiveFilePath)) {
+            return ArchivedPersonKeys.EMPTY;
+        }
+        Path keyFilePath = ArchiveKeyFile.getKeyFilePath(archiveFilePath);
+        try {
+            if (Files.exists(keyFilePath)) {
+                return ArchiveKeyFile.read(Files.readAllBytes(keyFilePath), Files.size(archiveFilePath));
+            }
+        } catch (IOException e) {
+            logger.info("Not using key file " + keyFilePath + ": " + e.getMessage());
+        }
+
+        ArchivedPersonKeys keys = ArchivedPersonKeys.of(readArchivedPersons());
+        try {
+            writeKeyFile(keys);
+        } catch (IOException e) {
+            logger.warning("Failed to rebuild key file " + keyFilePath + ": " + e);
+        }
+        return keys;
+    }
+
+    @Override
+    public synchronized List<Person> readArchivedPersons() throws DataLoadingException {
+        return archive.readAddressBook()
+                .map(ReadOnlyAddressBook::getPersonList)
+                .<List<Person>>map(List::copyOf)
+                .orElse(List.of());
+    }
+
+    @Override
+    public synchronized ArchivedPersonKeys archivePersons(Collection<Person> persons) throws IOException {
+        requireNonNull(persons);
+        Optional<ReadOnlyAddressBook> archived;
+        try {
+            archived = archive.readAddressBook();
+        } catch (DataLoadingException e) {
+            // Overwriting an unreadable archive would lose the persons in it
+            throw new IOException(e.getMessage(), e);
+        }
+        AddressBook updated = archived.map(AddressBook::new).orElseGet(AddressBook::new);
+        // A person equal to an archived one was archived just before the app stopped without saving
+        Set<Person> archivedPersons = new HashSet<>(updated.getPersonList());
+        Set<Long> archivedIds = new HashSet<>();
+        updated.getPersonList().forEach(person -> archivedIds.add(person.getId()));
+        int archivedCount = 0;
+        for (Person person : persons) {
+            if (archivedPersons.contains(person)) {
+                continue;
+            }
+            // Nothing is written, so a clash leaves both the archive and the address book as they were
+            if (updated.hasSamePhoneNumber(person)) {
+                throw new IOException(String.format(MESSAGE_PHONE_ARCHIVED, person.getName(), person.getPhone()));
+            }
+            if (updated.hasSameEmail(person)) {
+                throw new IOException(String.format(MESSAGE_EMAIL_ARCHIVED, person.getName(), person.getEmail()));
+            }
+            for (Tag tag : person.getTags()) {
+                if (tag.hasGroup() && !updated.hasTagGroup(tag.getGroup())) {
+                    updated.addTagGroup(tag.getGroup());
+                }
+            }
+            // The id may be taken by a person archived before a restart reused it
+            Person toArchive = !archivedIds.contains(person.getId()) ? person
+                    : new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                            person.getRoles(), person.getStatus(), person.getTags());
+            updated.addPerson(toArchive);
+            archivedIds.add(toArchive.getId());
+            archivedCount++;
+        }
+
+        archive.saveAddressBook(updated);
+        ArchivedPersonKeys keys = ArchivedPersonKeys.of(updated.getPersonList());
+        writeKeyFile(keys);
+        logger.info("Archived " + archivedCount + " persons to " + archiveFilePath);
+        return keys;
+    }
+
+    private void writeKeyFile(ArchivedPersonKeys keys) throws IOException {
+        long archiveLength = Files.size(archiveFilePath);
+        fileWriter.write(ArchiveKeyFile.getKeyFilePath(archiveFilePath),
+                out -> ArchiveKeyFile.write(keys, archiveLength, out));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * Jackson-friendly version of the manifest of a backup generation kept by a {@link ChunkedBackupStorage}, which names
+ * the chunk holding each person of the address book, in order, and holds its Tag Groups.
+ */
+class JsonBackupManifest {
+
+    public static final String MESSAGE_INVALID_CHUNK_ID = "Backup manifest names an invalid chunk: %s";
+
+    private final long generation;
+    private final long createdAt;
+    private final int newChunkCount;
+    private final List<String> chunks = new ArrayList<>();
+    private final List<JsonAdaptedTagGroup> tagGroups = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonBackupManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonBackupManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("createdAt") long createdAt,
+            @JsonProperty("newChunkCount") int newChunkCount,
+            @JsonProperty("chunks") List<String> chunks,
+            @JsonProperty("tagGroups") List<JsonAdaptedTagGroup> tagGroups) {
+        this.generation = generation;
+        this.createdAt = createdAt;
+        this.newChunkCount = newChunkCount;
+        if (chunks != null) {
+            this.chunks.addAll(chunks);
+        }
+        if (tagGroups != null) {
+            this.tagGroups.addAll(tagGroups);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonBackupManifest} naming {@code chunks} and holding {@code tagGroups}.
+     * {@code createdAt} is in milliseconds since the epoch.
+     */
+    public JsonBackupManifest(long generation, long createdAt, int newChunkCount, List<String> chunks,
+            Collection<TagGroup> tagGroups) {
+        this.generation = generation;
+        this.createdAt = createdAt;
+        this.newChunkCount = newChunkCount;
+        this.chunks.addAll(chunks);
+        tagGroups.forEach(group -> this.tagGroups.add(new JsonAdaptedTagGroup(group)));
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getNewChunkCount() {
+        return newChunkCount;
+    }
+
+    /**
+     * Returns the ids of the chunks, checking that each is a valid chunk id, so that it names a file in the chunk
+     * directory.
+     *
+     * @throws IllegalValueException if a chunk id is missing or invalid.
+     */
+    public List<String> toChunkIds() throws IllegalValueException {
+        for (String chunk : chunks) {
+            if (chunk == null || !ChunkedBackupStorage.isChunkId(chunk)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_CHUNK_ID, chunk));
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Converts the Tag Groups of this manifest into the model's {@code TagGroup} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<TagGroup> toModelTagGroups() throws IllegalValueException {
+        List<TagGroup> modelTagGroups = new ArrayList<>(tagGroups.size());
+        for (JsonAdaptedTagGroup jsonAdaptedTagGroup : tagGroups) {
+            if (jsonAdaptedTagGroup == null) {
+                throw new IllegalValueException(String.format(JsonAddressBookReader.MESSAGE_NULL_ELEMENT,
+                        "tagGroups"));
+            }
+            modelTagGroups.add(jsonAdaptedTagGroup.toModelType());
+        }
+        return modelTagGroups;
+    }
+}
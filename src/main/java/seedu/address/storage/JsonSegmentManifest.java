@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link SegmentedAddressBookStorage}, which names the segment file
+ * holding the persons of each segment and holds the Tag Groups of the address book.
+ */
+class JsonSegmentManifest {
+
+    public static final String MESSAGE_MISSING_SEGMENTS = "Manifest's segments field is missing!";
+    public static final String MESSAGE_INVALID_SEGMENT_FILE = "Manifest names an invalid segment file: %s";
+
+    private final long generation;
+    private final List<String> segments = new ArrayList<>();
+    private final List<JsonAdaptedTagGroup> tagGroups = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("segments") List<String> segments,
+            @JsonProperty("tagGroups") List<JsonAdaptedTagGroup> tagGroups) {
+        this.generation = generation;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+        if (tagGroups != null) {
+            this.tagGroups.addAll(tagGroups);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} naming {@code segments} and holding {@code tagGroups}.
+     */
+    public JsonSegmentManifest(long generation, List<String> segments, Collection<TagGroup> tagGroups) {
+        this.generation = generation;
+        this.segments.addAll(segments);
+        tagGroups.forEach(group -> this.tagGroups.add(new JsonAdaptedTagGroup(group)));
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<String> getSegments() {
+        return segments;
+    }
+
+    public List<JsonAdaptedTagGroup> getTagGroups() {
+        return tagGroups;
+    }
+
+    /**
+     * Returns the names of the segment files, checking that each is a plain file name in the manifest's directory.
+     *
+     * @throws IllegalValueException if a segment file name is missing or invalid.
+     */
+    public List<String> toSegmentFileNames() throws IllegalValueException {
+        if (segments.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_MISSING_SEGMENTS);
+        }
+        for (String segment : segments) {
+            if (segment == null || !SegmentedAddressBookStorage.isSegmentFileName(segment)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT_FILE, segment));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Converts the Tag Groups of this manifest into the model's {@code TagGroup} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<TagGroup> toModelTagGroups() throws IllegalValueException {
+        List<TagGroup> modelTagGroups = new ArrayList<>(tagGroups.size());
+        for (JsonAdaptedTagGroup jsonAdaptedTagGroup : tagGroups) {
+            if (jsonAdaptedTagGroup == null) {
+                throw new IllegalValueException(String.format(JsonAddressBookReader.MESSAGE_NULL_ELEMENT,
+                        "tagGroups"));
+            }
+            modelTagGroups.add(jsonAdaptedTagGroup.toModelType());
+        }
+        return modelTagGroups;
+    }
+}
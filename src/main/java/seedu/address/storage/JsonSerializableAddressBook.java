@@ -12,6 +12,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexSnapshot;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.TagGroup;
 
 /**
@@ -55,23 +57,57 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        ParallelPersonConverter personConverter = new ParallelPersonConverter();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            personConverter.add(jsonAdaptedPerson);
         }
-
+        List<Person> modelPersons = personConverter.finish();
+        List<TagGroup> modelTagGroups = new ArrayList<>(tagGroups.size());
         for (JsonAdaptedTagGroup jsonAdaptedTagGroup : tagGroups) {
-            TagGroup group = jsonAdaptedTagGroup.toModelType();
+            modelTagGroups.add(jsonAdaptedTagGroup.toModelType());
+        }
+        return createAddressBook(modelPersons, modelTagGroups);
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code persons} and {@code tagGroups} as loaded from a data file.
+     *
+     * @throws IllegalValueException if there are duplicate persons or Tag Groups.
+     */
+    static AddressBook createAddressBook(List<Person> persons, List<TagGroup> tagGroups)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON + "\n" + String.join("\n", dpe.getConflicts()));
+        }
+        addTagGroups(addressBook, tagGroups);
+        return addressBook;
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code persons} and {@code tagGroups} as loaded from a data file, with
+     * the secondary indexes over the persons restored from {@code indexes}.
+     * The persons must be known to be unique, as they are not checked for duplicates.
+     *
+     * @throws IllegalValueException if there are duplicate Tag Groups.
+     */
+    static AddressBook createAddressBook(List<Person> persons, List<TagGroup> tagGroups, PersonIndexSnapshot indexes)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons, indexes);
+        addTagGroups(addressBook, tagGroups);
+        return addressBook;
+    }
+
+    private static void addTagGroups(AddressBook addressBook, List<TagGroup> tagGroups) throws IllegalValueException {
+        for (TagGroup group : tagGroups) {
             if (addressBook.hasTagGroup(group)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TAG_GROUP);
             }
             addressBook.addTagGroup(group);
         }
-        return addressBook;
     }
 
 }
@@ -5,16 +5,19 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.AtomicFileWriter;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
- * A class to access UserPrefs stored in the hard disk as a json file
+ * A class to access UserPrefs stored in the hard disk as a json file.
+ * The file is replaced atomically on save.
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     private Path filePath;
+    private final AtomicFileWriter fileWriter = new AtomicFileWriter(false);
 
     public JsonUserPrefsStorage(Path filePath) {
         this.filePath = filePath;
@@ -41,7 +44,7 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFile(userPrefs, filePath, fileWriter);
     }
 
 }
@@ -0,0 +1,259 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.BinaryAddressBookFormat.readString;
+import static seedu.address.storage.BinaryAddressBookFormat.skipString;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Status;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * A read-only address book backed by a memory-mapped binary snapshot, in the layout described by
+ * {@link BinaryAddressBookFormat}. Opening it only checks the snapshot and notes where each person starts; a
+ * {@code Person} is decoded when it is first accessed, and the persons decoded last are kept in a bounded cache.
+ * Fields are validated when their person is decoded. The checksum ensures a snapshot holds exactly what
+ * {@link BinaryAddressBookWriter} wrote from valid persons, so decoding only fails if a snapshot of the same format
+ * version was written with different constraints, in which case an {@code IllegalStateException} is thrown.
+ */
+class MappedAddressBookSnapshot implements ReadOnlyAddressBook {
+
+    public static final int DEFAULT_CACHE_CAPACITY = 1024;
+
+    private final Path filePath;
+    private final ByteBuffer buffer;
+    private final int[] personOffsets;
+    private final List<Role> roles;
+    private final List<Tag> tags;
+    private final Set<TagGroup> tagGroups;
+    private final Map<Integer, Person> cache;
+    private final ObservableList<Person> persons;
+
+    private MappedAddressBookSnapshot(Path filePath, ByteBuffer buffer, int[] personOffsets, List<Role> roles,
+            List<Tag> tags, Set<TagGroup> tagGroups, int cacheCapacity) {
+        this.filePath = filePath;
+        this.buffer = buffer;
+        this.personOffsets = personOffsets;
+        this.roles = roles;
+        this.tags = tags;
+        this.tagGroups = tagGroups;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(new LazyPersonList()));
+    }
+
+    /**
+     * Maps the snapshot at {@code filePath}, keeping up to {@code cacheCapacity} decoded persons.
+     *
+     * @throws IOException if the file could not be mapped, is not a snapshot in a supported format version, or does
+     *     not match its checksum.
+     * @throws IllegalValueException if its roles, tags or Tag Groups violate their constraints.
+     */
+    public static MappedAddressBookSnapshot open(Path filePath, int cacheCapacity)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("The snapshot is too large to be mapped.");
+            }
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != BinaryAddressBookFormat.MAGIC) {
+                throw new IOException(BinaryAddressBookReader.MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int version = buffer.getInt();
+            if (version != BinaryAddressBookFormat.FORMAT_VERSION) {
+                throw new IOException(String.format(BinaryAddressBookReader.MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            verifyChecksum(buffer);
+
+            List<Role> roles = new ArrayList<>();
+            List<Tag> tags = new ArrayList<>();
+            Set<TagGroup> tagGroups = new HashSet<>();
+            try {
+                readDictionary(buffer).forEach(roleName -> roles.add(Role.of(roleName)));
+                readDictionary(buffer).forEach(tagFormat -> tags.add(Tag.of(tagFormat)));
+                readDictionary(buffer).forEach(groupName -> tagGroups.add(TagGroup.of(groupName)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+
+            int[] personOffsets = new int[buffer.getInt()];
+            long maxId = 0;
+            for (int i = 0; i < personOffsets.length; i++) {
+                personOffsets[i] = buffer.position();
+                long id = buffer.getLong();
+                if (!Person.isValidId(id)) {
+                    throw new IllegalValueException(JsonAdaptedPerson.MESSAGE_INVALID_ID);
+                }
+                maxId = Math.max(maxId, id);
+                skipPersonFields(buffer);
+            }
+            // Persons created before all of these are decoded must not reuse their ids
+            Person.reserveIdsUpTo(maxId);
+            return new MappedAddressBookSnapshot(filePath, buffer, personOffsets, roles, tags,
+                    Set.copyOf(tagGroups), cacheCapacity);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            // A snapshot with a matching checksum but an inconsistent layout
+            throw new IOException("The snapshot is corrupted.", e);
+        }
+    }
+
+    private static void verifyChecksum(ByteBuffer buffer) throws IOException {
+        int checksumOffset = buffer.limit() - Long.BYTES;
+        if (checksumOffset < buffer.position()) {
+            throw new IOException(BinaryAddressBookReader.MESSAGE_CHECKSUM_MISMATCH);
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.duplicate().position(0).limit(checksumOffset));
+        if (buffer.getLong(checksumOffset) != checksum.getValue()) {
+            throw new IOException(BinaryAddressBookReader.MESSAGE_CHECKSUM_MISMATCH);
+        }
+    }
+
+    private static List<String> readDictionary(ByteBuffer buffer) throws IOException {
+        int size = buffer.getInt();
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values.add(readString(buffer));
+        }
+        return values;
+    }
+
+    private static void skipPersonFields(ByteBuffer buffer) throws IOException {
+        for (int i = 0; i < 4; i++) {
+            skipString(buffer);
+        }
+        buffer.get();
+        for (int i = 0; i < 2; i++) {
+            int count = buffer.getInt();
+            buffer.position(buffer.position() + count * Integer.BYTES);
+        }
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public Set<TagGroup> getTagGroups() {
+        return tagGroups;
+    }
+
+    @Override
+    public boolean hasTagGroup(TagGroup group) {
+        requireNonNull(group);
+        return tagGroups.contains(group);
+    }
+
+    /**
+     * Returns the number of decoded persons currently kept in the cache.
+     */
+    int getCachedPersonCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private Person getPerson(int index) {
+        synchronized (cache) {
+            Person person = cache.get(index);
+            if (person == null) {
+                person = decodePerson(buffer.duplicate().position(personOffsets[index]));
+                cache.put(index, person);
+            }
+            return person;
+        }
+    }
+
+    private Person decodePerson(ByteBuffer record) {
+        // The constructors validate the fields
+        try {
+            long id = record.getLong();
+            Name name = new Name(readString(record));
+            Phone phone = new Phone(readString(record));
+            Email email = new Email(readString(record));
+            Address address = new Address(readString(record));
+            int statusCode = Byte.toUnsignedInt(record.get());
+            Optional<Status> status = statusCode == 0 ? Optional.empty() : Optional.of(Status.values()[statusCode - 1]);
+
+            Set<Role> personRoles = new HashSet<>();
+            int roleCount = record.getInt();
+            for (int i = 0; i < roleCount; i++) {
+                personRoles.add(roles.get(record.getInt()));
+            }
+            Set<Tag> personTags = new HashSet<>();
+            int tagCount = record.getInt();
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(tags.get(record.getInt()));
+            }
+            return new Person(id, name, phone, email, address, personRoles, status, personTags);
+        } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalStateException("Invalid person in " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("persons", personOffsets.length)
+                .add("tagGroups", tagGroups)
+                .toString();
+    }
+
+    /**
+     * The persons of the snapshot, each decoded when it is accessed.
+     */
+    private class LazyPersonList extends AbstractList<Person> {
+        @Override
+        public Person get(int index) {
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return personOffsets.length;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s to {@code Person}s in chunks on a thread pool, while the caller goes on
+ * reading the next ones. The persons are returned in the order they were added, and a failure is reported for the
+ * first person, in that order, that cannot be converted, as a sequential conversion would. The persons saved without
+ * an id are given theirs on the calling thread, in that order too, so that loading the same file gives the same ids.
+ * At most a few chunks per thread of the pool are waiting at any time, so the memory used does not grow with the
+ * number of persons added.
+ */
+class ParallelPersonConverter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 2048;
+
+    private final ExecutorService pool;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final Deque<Future<List<ConvertedPerson>>> chunksInFlight = new ArrayDeque<>();
+    private final List<ConvertedPerson> persons = new ArrayList<>();
+    private List<JsonAdaptedPerson> chunk = new ArrayList<>();
+    private IllegalValueException failure;
+    private int newIdCount;
+
+    /**
+     * Creates a converter using the common fork/join pool.
+     */
+    ParallelPersonConverter() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a converter submitting chunks of {@code chunkSize} persons to {@code pool}, which has
+     * {@code parallelism} threads.
+     */
+    ParallelPersonConverter(ExecutorService pool, int parallelism, int chunkSize) {
+        requireNonNull(pool);
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = 2 * Math.max(1, parallelism);
+    }
+
+    /**
+     * Adds {@code person} to be converted.
+     *
+     * @throws IllegalValueException if a person added earlier could not be converted.
+     */
+    public void add(JsonAdaptedPerson person) throws IllegalValueException {
+        requireNonNull(person);
+        chunk.add(person);
+        if (chunk.size() < chunkSize) {
+            return;
+        }
+
+        List<JsonAdaptedPerson> fullChunk = chunk;
+        chunk = new ArrayList<>();
+        chunksInFlight.add(pool.submit(() -> convert(fullChunk)));
+        if (chunksInFlight.size() > maxChunksInFlight) {
+            persons.addAll(awaitOldestChunk());
+        }
+    }
+
+    /**
+     * Returns the persons converted from all the persons added, in the order they were added.
+     *
+     * @throws IllegalValueException if a person added could not be converted, the same one each time it is called.
+     */
+    public List<Person> finish() throws IllegalValueException {
+        if (failure != null) {
+            throw failure;
+        }
+        while (!chunksInFlight.isEmpty()) {
+            persons.addAll(awaitOldestChunk());
+        }
+        // The last chunk is too small to be worth handing over
+        persons.addAll(convert(chunk));
+        chunk = new ArrayList<>();
+
+        // Every id saved has been reserved by now, so the ids given to the persons saved without one cannot be taken
+        // by a person further on, and they are given in the order the persons were added
+        List<Person> converted = new ArrayList<>(persons.size());
+        for (ConvertedPerson person : persons) {
+            if (person.isMissingId()) {
+                newIdCount++;
+            }
+            converted.add(person.withIdIfMissing());
+        }
+        persons.clear();
+        return converted;
+    }
+
+    /**
+     * Returns the number of persons that were saved without an id and were given a new one by {@link #finish()}.
+     */
+    public int getNewIdCount() {
+        return newIdCount;
+    }
+
+    private List<ConvertedPerson> awaitOldestChunk() throws IllegalValueException {
+        try {
+            return chunksInFlight.remove().get();
+        } catch (ExecutionException e) {
+            cancelChunksInFlight();
+            if (e.getCause() instanceof IllegalValueException) {
+                failure = (IllegalValueException) e.getCause();
+                throw failure;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            cancelChunksInFlight();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void cancelChunksInFlight() {
+        chunksInFlight.forEach(future -> future.cancel(false));
+        chunksInFlight.clear();
+    }
+
+    private static List<ConvertedPerson> convert(List<JsonAdaptedPerson> adaptedPersons)
+            throws IllegalValueException {
+        List<ConvertedPerson> converted = new ArrayList<>(adaptedPersons.size());
+        for (JsonAdaptedPerson adaptedPerson : adaptedPersons) {
+            converted.add(adaptedPerson.hasId()
+                    ? new ConvertedPerson(adaptedPerson.toModelType(), null)
+                    : new ConvertedPerson(null, adaptedPerson.toModelTypeWithId()));
+        }
+        return converted;
+    }
+
+    /**
+     * A person converted on the pool or, if it was saved without an id, checked and waiting to be given one.
+     */
+    private static class ConvertedPerson {
+        private final Person person;
+        private final LongFunction<Person> personWithId;
+
+        ConvertedPerson(Person person, LongFunction<Person> personWithId) {
+            this.person = person;
+            this.personWithId = personWithId;
+        }
+
+        boolean isMissingId() {
+            return person == null;
+        }
+
+        Person withIdIfMissing() {
+            return person != null ? person : personWithId.apply(Person.nextId());
+        }
+    }
+}
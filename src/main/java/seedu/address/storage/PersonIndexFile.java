@@ -0,0 +1,207 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookFormat.readString;
+import static seedu.address.storage.BinaryAddressBookFormat.writeString;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.person.PersonIndexSnapshot;
+import seedu.address.model.person.Status;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * Reads and writes the secondary indexes over the persons of a binary snapshot, kept in a file next to it so that
+ * they need not be built from the persons on load. The layout is:
+ * <pre>
+ * header:    int magic, int format version,
+ *            long checksum and long length of the snapshot the indexes are over, int person count
+ * names:     int count, then for each word a string, int position count and each position as an int
+ * roles:     int count, then for each lower-cased role name a string and a bit set
+ * statuses:  int count, then for each status name a string and a bit set
+ * tagGroups: int count, then for each Tag Group name a string and a bit set
+ * trailer:   long CRC32C checksum of every byte before it
+ * </pre>
+ * Positions are those of the persons in the snapshot, and bit sets are an int word count followed by each long word.
+ * Strings are written as in {@link BinaryAddressBookFormat}.
+ */
+class PersonIndexFile {
+
+    public static final String MESSAGE_NOT_AN_INDEX_FILE = "The file is not a person index file.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "The index file is corrupted: its checksum does not match.";
+    public static final String MESSAGE_STALE = "The index file is not over the current snapshot.";
+    public static final String MESSAGE_INVALID_POSITION = "The index file refers to a missing person.";
+
+    static final int MAGIC = 0x41424B49;
+    static final int FORMAT_VERSION = 1;
+
+    private static final String INDEX_FILE_SUFFIX = ".idx";
+    private static final int TRAILER_LENGTH = Long.BYTES;
+
+    private PersonIndexFile() {}
+
+    /**
+     * Returns the path of the index file kept next to the snapshot at {@code snapshotFilePath}.
+     */
+    static Path getIndexFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + INDEX_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the checksum in the trailer of the snapshot at {@code snapshotFilePath}, without reading the rest of it.
+     */
+    static long readSnapshotChecksum(Path snapshotFilePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFilePath, StandardOpenOption.READ)) {
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_LENGTH);
+            long position = channel.size() - TRAILER_LENGTH;
+            while (trailer.hasRemaining()) {
+                if (position < 0 || channel.read(trailer, position + trailer.position()) < 0) {
+                    throw new IOException(BinaryAddressBookReader.MESSAGE_NOT_A_SNAPSHOT);
+                }
+            }
+            return trailer.getLong(0);
+        }
+    }
+
+    /**
+     * Writes {@code indexes} to {@code out}, without closing it, marked as the indexes over the snapshot with
+     * {@code snapshotChecksum} and {@code snapshotLength}.
+     */
+    static void write(PersonIndexSnapshot indexes, long snapshotChecksum, long snapshotLength, OutputStream out)
+            throws IOException {
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32C());
+        DataOutputStream data = new DataOutputStream(checkedOut);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeLong(snapshotChecksum);
+        data.writeLong(snapshotLength);
+        data.writeInt(indexes.getPersonCount());
+
+        data.writeInt(indexes.getNameTokenPositions().size());
+        for (Map.Entry<String, int[]> entry : indexes.getNameTokenPositions().entrySet()) {
+            writeString(data, entry.getKey());
+            data.writeInt(entry.getValue().length);
+            for (int position : entry.getValue()) {
+                data.writeInt(position);
+            }
+        }
+        writeBitSets(data, indexes.getRoleBits(), roleName -> roleName);
+        writeBitSets(data, indexes.getStatusBits(), Status::name);
+        writeBitSets(data, indexes.getTagGroupBits(), TagGroup::getName);
+
+        // The checksum covers everything written before it
+        data.flush();
+        data.writeLong(checkedOut.getChecksum().getValue());
+        data.flush();
+    }
+
+    /**
+     * Reads the indexes from {@code in}, which must be over the snapshot with {@code snapshotChecksum} and
+     * {@code snapshotLength}.
+     *
+     * @throws IOException if {@code in} could not be read, does not hold valid indexes, or holds the indexes over
+     *     another snapshot.
+     */
+    static PersonIndexSnapshot read(InputStream in, long snapshotChecksum, long snapshotLength) throws IOException {
+        CheckedInputStream checkedIn = new CheckedInputStream(in, new CRC32C());
+        DataInputStream data = new DataInputStream(checkedIn);
+        if (data.readInt() != MAGIC || data.readInt() != FORMAT_VERSION) {
+            throw new IOException(MESSAGE_NOT_AN_INDEX_FILE);
+        }
+        if (data.readLong() != snapshotChecksum || data.readLong() != snapshotLength) {
+            throw new IOException(MESSAGE_STALE);
+        }
+        int personCount = data.readInt();
+        if (personCount < 0) {
+            throw new IOException(MESSAGE_INVALID_POSITION);
+        }
+
+        Map<String, int[]> nameTokenPositions = new HashMap<>();
+        int tokenCount = data.readInt();
+        for (int i = 0; i < tokenCount; i++) {
+            String token = readString(data);
+            int positionCount = readCount(data, personCount);
+            int[] positions = new int[positionCount];
+            for (int j = 0; j < positionCount; j++) {
+                positions[j] = data.readInt();
+                if (positions[j] < 0 || positions[j] >= personCount || (j > 0 && positions[j] <= positions[j - 1])) {
+                    throw new IOException(MESSAGE_INVALID_POSITION);
+                }
+            }
+            nameTokenPositions.put(token, positions);
+        }
+
+        Map<String, BitSet> roleBits = new HashMap<>();
+        Map<Status, BitSet> statusBits = new EnumMap<>(Status.class);
+        Map<TagGroup, BitSet> tagGroupBits = new HashMap<>();
+        try {
+            readBitSets(data, personCount, roleBits, roleName -> roleName);
+            readBitSets(data, personCount, statusBits, Status::valueOf);
+            readBitSets(data, personCount, tagGroupBits, TagGroup::of);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        long expectedChecksum = checkedIn.getChecksum().getValue();
+        if (data.readLong() != expectedChecksum) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        return new PersonIndexSnapshot(personCount, nameTokenPositions, roleBits, statusBits, tagGroupBits);
+    }
+
+    private static <K> void writeBitSets(DataOutputStream data, Map<K, BitSet> bitsByKey, Function<K, String> toName)
+            throws IOException {
+        data.writeInt(bitsByKey.size());
+        for (Map.Entry<K, BitSet> entry : bitsByKey.entrySet()) {
+            writeString(data, toName.apply(entry.getKey()));
+            long[] words = entry.getValue().toLongArray();
+            data.writeInt(words.length);
+            for (long word : words) {
+                data.writeLong(word);
+            }
+        }
+    }
+
+    private static <K> void readBitSets(DataInputStream data, int personCount, Map<K, BitSet> bitsByKey,
+            Function<String, K> fromName) throws IOException {
+        int count = data.readInt();
+        for (int i = 0; i < count; i++) {
+            K key = fromName.apply(readString(data));
+            long[] words = new long[readCount(data, (personCount + Long.SIZE - 1) / Long.SIZE)];
+            for (int j = 0; j < words.length; j++) {
+                words[j] = data.readLong();
+            }
+            BitSet bits = BitSet.valueOf(words);
+            if (bits.length() > personCount) {
+                throw new IOException(MESSAGE_INVALID_POSITION);
+            }
+            bitsByKey.put(key, bits);
+        }
+    }
+
+    /**
+     * Reads a count, which must be at most {@code max}, so that a corrupted count does not allocate a huge array.
+     */
+    private static int readCount(DataInputStream data, int max) throws IOException {
+        int count = data.readInt();
+        if (count < 0 || count > max) {
+            throw new IOException(MESSAGE_INVALID_POSITION);
+        }
+        return count;
+    }
+}
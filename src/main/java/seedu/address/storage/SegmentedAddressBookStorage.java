@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagGroup;
+
+/**
+ * A class to access AddressBook data stored as json segment files in a directory on the hard disk.
+ * Each person is kept in the segment given by its id, so a save only rewrites the segments whose persons changed since
+ * the last save or load, instead of the whole address book. The segments are read in parallel on load.
+ * <p>
+ * A manifest in the directory names the segment file of each segment and holds the Tag Groups. Changed segments are
+ * written to new files, and the manifest is then replaced atomically to refer to them, so a crash at any point leaves
+ * the address book of either the previous or the new save in place. The files no longer referred to are deleted last.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private static final String SEGMENT_DIRECTORY_EXTENSION = ".segments";
+    private static final String MANIFEST_FILE_NAME = "manifest.json";
+    private static final String SEGMENT_FILE_NAME_FORMAT = "segment-%03d-%d.json";
+    private static final Pattern SEGMENT_FILE_NAME_PATTERN = Pattern.compile("segment-\\d{3,}-(\\d{1,18})\\.json");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path manifestFilePath;
+    private final int segmentCount;
+    private final boolean isCompact;
+    private final AtomicFileWriter fileWriter;
+
+    // The segments as last saved to or loaded from manifestFilePath, so that unchanged ones are not written again
+    private List<List<Person>> persistedSegments;
+    private List<String> persistedSegmentFileNames;
+    private long persistedGeneration;
+
+    /**
+     * Creates a storage for the segments whose manifest is at {@code manifestFilePath}, written as described by
+     * {@code settings}. No backups are kept, as a save never replaces the segment files the previous manifest refers
+     * to.
+     */
+    public SegmentedAddressBookStorage(Path manifestFilePath, StorageSettings settings) {
+        this(manifestFilePath, settings.getSegmentCount(), settings.isCompactJsonEnabled(),
+                new AtomicFileWriter(false));
+    }
+
+    /**
+     * Creates a storage for the segments whose manifest is at {@code manifestFilePath}, spreading the persons over
+     * {@code segmentCount} segment files written through {@code fileWriter}, on a single line if {@code isCompact}.
+     */
+    public SegmentedAddressBookStorage(Path manifestFilePath, int segmentCount, boolean isCompact,
+            AtomicFileWriter fileWriter) {
+        requireNonNull(manifestFilePath);
+        requireNonNull(fileWriter);
+        if (segmentCount < 1) {
+            throw new IllegalArgumentException("Segment count must be positive: " + segmentCount);
+        }
+        this.manifestFilePath = manifestFilePath;
+        this.segmentCount = segmentCount;
+        this.isCompact = isCompact;
+        this.fileWriter = fileWriter;
+    }
+
+    /**
+     * Returns the path of the manifest of the segments kept in place of the json file at {@code jsonFilePath}, in a
+     * directory next to it with the same name but with the extension {@code .segments}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SEGMENT_DIRECTORY_EXTENSION).resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns true if {@code fileName} is the name of a segment file.
+     */
+    static boolean isSegmentFileName(String fileName) {
+        return SEGMENT_FILE_NAME_PATTERN.matcher(fileName).matches();
+    }
+
+    /**
+     * Returns the index of the segment holding {@code person} among {@code segmentCount} segments.
+     */
+    static int getSegmentIndex(Person person, int segmentCount) {
+        return (int) (person.getId() % segmentCount);
+    }
+
+    private static Path getDirectory(Path manifestFilePath) {
+        return manifestFilePath.toAbsolutePath().getParent();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return manifestFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(manifestFilePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The persons are listed in the order they were added, i.e. by id.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSegmentManifest> manifest = JsonUtil.readJsonFile(filePath, JsonSegmentManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<String> segmentFileNames = manifest.get().toSegmentFileNames();
+            List<List<Person>> segments = readSegments(getDirectory(filePath), segmentFileNames);
+            List<Person> persons = new ArrayList<>();
+            segments.forEach(persons::addAll);
+            persons.sort(Comparator.comparingLong(Person::getId));
+            List<TagGroup> tagGroups = manifest.get().toModelTagGroups();
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.createAddressBook(persons, tagGroups);
+
+            if (filePath.equals(manifestFilePath) && segments.size() == segmentCount) {
+                setPersisted(segments, segmentFileNames, manifest.get().getGeneration());
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from segments of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in segments of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the segment files named {@code segmentFileNames} in {@code directory} in parallel.
+     * If several segments cannot be read, the failure of the first of them is thrown.
+     */
+    private static List<List<Person>> readSegments(Path directory, List<String> segmentFileNames)
+            throws IOException, IllegalValueException {
+        int threadCount = Math.min(segmentFileNames.size(), Runtime.getRuntime().availableProcessors());
+        if (threadCount <= 1) {
+            List<List<Person>> segments = new ArrayList<>(segmentFileNames.size());
+            for (String segmentFileName : segmentFileNames) {
+                segments.add(readSegment(directory.resolve(segmentFileName)));
+            }
+            return segments;
+        }
+
+        // A dedicated pool, as each segment is converted by a ParallelPersonConverter that blocks on the common pool
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "segment-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<List<Person>>> futures = new ArrayList<>(segmentFileNames.size());
+            for (String segmentFileName : segmentFileNames) {
+                futures.add(executor.submit(() -> readSegment(directory.resolve(segmentFileName))));
+            }
+            List<List<Person>> segments = new ArrayList<>(futures.size());
+            for (Future<List<Person>> future : futures) {
+                segments.add(getSegment(future));
+            }
+            return segments;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Person> getSegment(Future<List<Person>> future) throws IOException, IllegalValueException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading segments", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static List<Person> readSegment(Path segmentFilePath) throws IOException, IllegalValueException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(segmentFilePath), BUFFER_SIZE)) {
+            // Tag Groups are kept in the manifest
+            return JsonAddressBookReader.read(in, new ArrayList<>());
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, manifestFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the segments that changed since the last save or load are written, unless {@code filePath} is not the
+     * manifest of this storage, in which case every segment is.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<List<Person>> segments = partition(addressBook.getPersonList());
+        boolean isIncremental = filePath.equals(manifestFilePath) && persistedSegments != null;
+        Path directory = getDirectory(filePath);
+        long generation = (isIncremental ? persistedGeneration : findLatestGeneration(directory)) + 1;
+
+        List<String> segmentFileNames = new ArrayList<>(segmentCount);
+        int writtenCount = 0;
+        for (int i = 0; i < segmentCount; i++) {
+            List<Person> segment = segments.get(i);
+            if (isIncremental && isSameSegment(segment, persistedSegments.get(i))) {
+                segmentFileNames.add(persistedSegmentFileNames.get(i));
+                continue;
+            }
+            String segmentFileName = String.format(SEGMENT_FILE_NAME_FORMAT, i, generation);
+            fileWriter.write(directory.resolve(segmentFileName),
+                    out -> JsonAddressBookWriter.write(segment, List.of(), out, isCompact));
+            segmentFileNames.add(segmentFileName);
+            writtenCount++;
+        }
+
+        JsonSegmentManifest manifest = new JsonSegmentManifest(generation, segmentFileNames,
+                addressBook.getTagGroups());
+        fileWriter.write(filePath, JsonUtil.toJsonString(manifest));
+        logger.fine("Wrote " + writtenCount + " of " + segmentCount + " segments of " + filePath);
+
+        deleteUnreferencedSegmentFiles(directory, new HashSet<>(segmentFileNames));
+        if (filePath.equals(manifestFilePath)) {
+            setPersisted(segments, segmentFileNames, generation);
+        }
+    }
+
+    private List<List<Person>> partition(List<Person> persons) {
+        List<List<Person>> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments.add(new ArrayList<>(persons.size() / segmentCount + 1));
+        }
+        for (Person person : persons) {
+            segments.get(getSegmentIndex(person, segmentCount)).add(person);
+        }
+        return segments;
+    }
+
+    /**
+     * Returns true if {@code segment} holds the very same persons as {@code persistedSegment}, in the same order.
+     * Persons are immutable, so an edited person is a different object.
+     */
+    private static boolean isSameSegment(List<Person> segment, List<Person> persistedSegment) {
+        if (segment.size() != persistedSegment.size()) {
+            return false;
+        }
+        for (int i = 0; i < segment.size(); i++) {
+            if (segment.get(i) != persistedSegment.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setPersisted(List<List<Person>> segments, List<String> segmentFileNames, long generation) {
+        persistedSegments = segments;
+        persistedSegmentFileNames = List.copyOf(segmentFileNames);
+        persistedGeneration = generation;
+    }
+
+    /**
+     * Returns the latest generation of the segment files in {@code directory}, so that new segment files never
+     * replace ones that a manifest may still refer to.
+     */
+    private static long findLatestGeneration(Path directory) throws IOException {
+        long latestGeneration = 0;
+        if (!Files.isDirectory(directory)) {
+            return latestGeneration;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "segment-*.json")) {
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    latestGeneration = Math.max(latestGeneration, Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        return latestGeneration;
+    }
+
+    /**
+     * Deletes the segment files in {@code directory} other than {@code referencedFileNames}.
+     * A file that cannot be deleted is left in place, to be deleted by a later save.
+     */
+    private static void deleteUnreferencedSegmentFiles(Path directory, Set<String> referencedFileNames) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "segment-*.json")) {
+            for (Path file : files) {
+                if (!referencedFileNames.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete unused segment files in " + directory + ": " + e);
+        }
+    }
+}
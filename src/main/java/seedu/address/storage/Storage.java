@@ -12,7 +12,7 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, BackupStorage, ArchiveStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -2,6 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +13,8 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ArchivedPersonKeys;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,13 +24,31 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackupStorage backupStorage;
+    private ArchiveStorage archiveStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, which
+     * keeps the backups and the archive next to the data file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage,
+                new ChunkedBackupStorage(
+                        ChunkedBackupStorage.getBackupDirectoryPath(addressBookStorage.getAddressBookFilePath())),
+                new JsonArchiveStorage(
+                        JsonArchiveStorage.getArchiveFilePath(addressBookStorage.getAddressBookFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage},
+     * {@code BackupStorage} and {@code ArchiveStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            BackupStorage backupStorage, ArchiveStorage archiveStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.backupStorage = backupStorage;
+        this.archiveStorage = archiveStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +98,62 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    // ================ Backup methods ==============================
+
+    @Override
+    public Path getBackupDirectoryPath() {
+        return backupStorage.getBackupDirectoryPath();
+    }
+
+    @Override
+    public BackupGeneration backUpAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Attempting to back up data to: " + backupStorage.getBackupDirectoryPath());
+        return backupStorage.backUpAddressBook(addressBook);
+    }
+
+    @Override
+    public List<Long> getBackupGenerations() throws IOException {
+        return backupStorage.getBackupGenerations();
+    }
+
+    @Override
+    public Optional<Instant> getLatestBackupTime() throws DataLoadingException {
+        return backupStorage.getLatestBackupTime();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackup(long generation) throws DataLoadingException {
+        logger.fine("Attempting to read backup generation " + generation);
+        return backupStorage.readBackup(generation);
+    }
+
+    @Override
+    public int pruneBackups(int retainedCount) throws IOException {
+        return backupStorage.pruneBackups(retainedCount);
+    }
+
+    // ================ Archive methods ==============================
+
+    @Override
+    public Path getArchiveFilePath() {
+        return archiveStorage.getArchiveFilePath();
+    }
+
+    @Override
+    public ArchivedPersonKeys readArchivedPersonKeys() throws DataLoadingException {
+        return archiveStorage.readArchivedPersonKeys();
+    }
+
+    @Override
+    public List<Person> readArchivedPersons() throws DataLoadingException {
+        logger.fine("Attempting to read archive: " + archiveStorage.getArchiveFilePath());
+        return archiveStorage.readArchivedPersons();
+    }
+
+    @Override
+    public ArchivedPersonKeys archivePersons(Collection<Person> persons) throws IOException {
+        logger.fine("Attempting to archive persons to: " + archiveStorage.getArchiveFilePath());
+        return archiveStorage.archivePersons(persons);
+    }
+
 }
@@ -0,0 +1,256 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that watches its data file for changes made outside the app, e.g. by a tool syncing
+ * it between machines, and reports how the persons in it changed.
+ * It remembers the address book last read from or saved to the data file, together with the file's identity, size and
+ * modification time, so that its own saves are not taken for changes made outside the app, and so that the changes
+ * found are those made to the data file alone, not the changes made in the app that are not saved yet.
+ */
+public class WatchingAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_QUIET_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WatchingAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final long quietMillis;
+
+    // Held while the data file is read or written, so that a save is never taken for a change made outside the app
+    private final Object fileLock = new Object();
+
+    private ReadOnlyAddressBook knownAddressBook = new AddressBookSnapshot(new AddressBook());
+    private FileStamp knownStamp;
+    private WatchService watchService;
+
+    /**
+     * Creates a storage reading and writing {@code storage}, which reports a change to its data file once the file has
+     * not changed for {@link #DEFAULT_QUIET_MILLIS}.
+     */
+    public WatchingAddressBookStorage(AddressBookStorage storage) {
+        this(storage, DEFAULT_QUIET_MILLIS);
+    }
+
+    /**
+     * Creates a storage reading and writing {@code storage}, which reports a change to its data file once the file has
+     * not changed for {@code quietMillis}, so that a file still being written is not read.
+     */
+    public WatchingAddressBookStorage(AddressBookStorage storage, long quietMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.quietMillis = quietMillis;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return storage.readAddressBook(filePath);
+        }
+        synchronized (fileLock) {
+            FileStamp stamp = readStamp();
+            Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+            if (addressBook.isPresent()) {
+                knownAddressBook = addressBook.get();
+                knownStamp = stamp;
+            }
+            return addressBook;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            storage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        synchronized (fileLock) {
+            storage.saveAddressBook(addressBook);
+            knownAddressBook = addressBook instanceof AddressBookSnapshot
+                    ? addressBook
+                    : new AddressBookSnapshot(addressBook);
+            knownStamp = readStamp();
+        }
+    }
+
+    /**
+     * Starts watching the data file on a dedicated thread, which tells {@code changeHandler} of each change made to it
+     * outside the app. The handler is called on the watcher thread.
+     *
+     * @throws IOException if the directory of the data file cannot be watched.
+     */
+    public void startWatching(Consumer<AddressBookChanges> changeHandler) throws IOException {
+        requireNonNull(changeHandler);
+        Path directory = getAddressBookFilePath().toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        Thread watcherThread = new Thread(() -> watch(watchService, changeHandler), "data-file-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        logger.info("Watching " + getAddressBookFilePath() + " for changes made outside the app");
+    }
+
+    /**
+     * Stops watching the data file.
+     */
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Reads the data file if it was changed since the app last read or saved it, and returns how the address book in
+     * it changed since then. The address book read is remembered as the one in the data file.
+     * Returns {@code Optional.empty()} if nothing changed, or the data file is missing or cannot be read, e.g. because
+     * it is still being written; it is read again on its next change.
+     */
+    Optional<AddressBookChanges> checkForExternalChange() {
+        synchronized (fileLock) {
+            FileStamp stamp = readStamp();
+            if (stamp == null || stamp.equals(knownStamp)) {
+                return Optional.empty();
+            }
+
+            Optional<ReadOnlyAddressBook> externalAddressBook;
+            try {
+                externalAddressBook = storage.readAddressBook();
+            } catch (DataLoadingException e) {
+                logger.warning("Could not reload " + getAddressBookFilePath()
+                        + " after it was changed outside the app: " + StringUtil.getDetails(e));
+                return Optional.empty();
+            }
+            if (externalAddressBook.isEmpty()) {
+                return Optional.empty();
+            }
+
+            AddressBookChanges changes = AddressBookChanges.between(knownAddressBook, externalAddressBook.get());
+            knownAddressBook = externalAddressBook.get();
+            knownStamp = stamp;
+            return changes.isEmpty() ? Optional.empty() : Optional.of(changes);
+        }
+    }
+
+    private void watch(WatchService watchService, Consumer<AddressBookChanges> changeHandler) {
+        try {
+            while (true) {
+                boolean isDataFileChanged = isDataFileChanged(watchService.take());
+                // A tool writing the file in place changes it many times, so wait until it stops
+                WatchKey key;
+                while ((key = watchService.poll(quietMillis, TimeUnit.MILLISECONDS)) != null) {
+                    isDataFileChanged |= isDataFileChanged(key);
+                }
+                if (isDataFileChanged) {
+                    checkForExternalChange().ifPresent(changeHandler);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching " + getAddressBookFilePath());
+        }
+    }
+
+    private boolean isDataFileChanged(WatchKey key) {
+        Path fileName = getAddressBookFilePath().getFileName();
+        boolean isDataFileChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isDataFileChanged |= event.kind() == OVERFLOW || fileName.equals(event.context());
+        }
+        key.reset();
+        return isDataFileChanged;
+    }
+
+    /**
+     * Returns the identity, size and modification time of the data file, or null if it is missing.
+     */
+    private FileStamp readStamp() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(getAddressBookFilePath(), BasicFileAttributes.class);
+            return new FileStamp(attributes.fileKey(), attributes.size(), attributes.lastModifiedTime());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The attributes of a data file that change whenever it is written. An atomic write replaces the file, which
+     * changes its identity even when its size and modification time stay the same.
+     */
+    private static class FileStamp {
+        private final Object fileKey;
+        private final long size;
+        private final FileTime lastModifiedTime;
+
+        FileStamp(Object fileKey, long size, FileTime lastModifiedTime) {
+            this.fileKey = fileKey;
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof FileStamp)) {
+                return false;
+            }
+
+            FileStamp otherStamp = (FileStamp) other;
+            return Objects.equals(fileKey, otherStamp.fileKey)
+                    && size == otherStamp.size
+                    && lastModifiedTime.equals(otherStamp.lastModifiedTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileKey, size, lastModifiedTime);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class StorageSettingsTest {
+    @Test
+    public void constructor_default_journalDisabled() {
+        assertFalse(new StorageSettings().isJournalEnabled());
+    }
+
+    @Test
+    public void withSaveDebounceMillis_keepsOtherSettings() {
+        StorageSettings journaled = new StorageSettings().withJournal(true, StorageSettings.JournalSyncPolicy.NEVER, 5);
+        StorageSettings debounced = journaled.withSaveDebounceMillis(0);
+        assertEquals(0, debounced.getSaveDebounceMillis());
+        assertEquals(journaled, debounced.withSaveDebounceMillis(journaled.getSaveDebounceMillis()));
+    }
+
+    @Test
+    public void isValid_defaultSettings_returnsTrue() {
+        assertTrue(new StorageSettings().isValid());
+    }
+
+    @Test
+    public void withInvalidNumbers_throwsIllegalArgumentException() {
+        StorageSettings settings = new StorageSettings();
+        assertThrows(IllegalArgumentException.class, StorageSettings.MESSAGE_CONSTRAINTS, () ->
+                settings.withSegmentCount(0));
+        assertThrows(IllegalArgumentException.class, StorageSettings.MESSAGE_CONSTRAINTS, () ->
+                settings.withJournal(true, StorageSettings.JournalSyncPolicy.ALWAYS, 0));
+        assertThrows(IllegalArgumentException.class, StorageSettings.MESSAGE_CONSTRAINTS, () ->
+                settings.withSaveDebounceMillis(-1));
+    }
+
+    @Test
+    public void toStringMethod() {
+        StorageSettings storageSettings = new StorageSettings();
+        String expected = StorageSettings.class.getCanonicalName() + "{journalEnabled="
+                + storageSettings.isJournalEnabled() + ", journalSyncPolicy=" + storageSettings.getJournalSyncPolicy()
+                + ", journalCheckpointInterval=" + storageSettings.getJournalCheckpointInterval()
+                + ", saveDebounceMillis=" + storageSettings.getSaveDebounceMillis()
+                + ", backupEnabled=" + storageSettings.isBackupEnabled()
+                + ", compactJsonEnabled=" + storageSettings.isCompactJsonEnabled()
+                + ", dataFileFormat=" + storageSettings.getDataFileFormat()
+                + ", mappedSnapshotEnabled=" + storageSettings.isMappedSnapshotEnabled()
+                + ", gzipEnabled=" + storageSettings.isGzipEnabled()
+                + ", segmentCount=" + storageSettings.getSegmentCount()
+                + ", persistedIndexesEnabled=" + storageSettings.isPersistedIndexesEnabled()
+                + ", externalChangeWatchEnabled=" + storageSettings.isExternalChangeWatchEnabled()
+                + ", externalChangePolicy=" + storageSettings.getExternalChangePolicy()
+                + ", autoBackupIntervalHours=" + storageSettings.getAutoBackupIntervalHours()
+                + ", backupRetentionCount=" + storageSettings.getBackupRetentionCount() + "}";
+        assertEquals(expected, storageSettings.toString());
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.testutil.CrashingFileWriter;
+
+public class AtomicFileWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_missingFile_created() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.json");
+        new AtomicFileWriter(false).write(file, "content");
+
+        assertEquals("content", Files.readString(file));
+        assertFalse(Files.exists(AtomicFileWriter.getTempFilePath(file)));
+    }
+
+    @Test
+    public void write_existingFile_replaced() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        AtomicFileWriter writer = new AtomicFileWriter(false);
+        writer.write(file, "old content");
+        writer.write(file, "new");
+
+        assertEquals("new", Files.readString(file));
+        assertFalse(Files.exists(AtomicFileWriter.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void write_keepsBackup_previousContentBackedUp() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        AtomicFileWriter writer = new AtomicFileWriter(true);
+        writer.write(file, "first");
+        assertFalse(Files.exists(AtomicFileWriter.getBackupFilePath(file)));
+
+        writer.write(file, "second");
+        writer.write(file, "third");
+        assertEquals("third", Files.readString(file));
+        assertEquals("second", Files.readString(AtomicFileWriter.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void write_keepsBackupFailsMidway_backupKept() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        AtomicFileWriter writer = new AtomicFileWriter(true);
+        writer.write(file, "first");
+        writer.write(file, "second");
+
+        AtomicFileWriter crashingWriter = new CrashingFileWriter(true, 2);
+        assertThrows(IOException.class, () -> crashingWriter.write(file, "third"));
+        assertEquals("second", Files.readString(file));
+        assertEquals("first", Files.readString(AtomicFileWriter.getBackupFilePath(file)));
+        assertFalse(Files.exists(AtomicFileWriter.getTempFilePath(file)));
+    }
+
+    @Test
+    public void write_failsMidway_oldContentKept() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        new AtomicFileWriter(false).write(file, "old content");
+
+        AtomicFileWriter crashingWriter = new CrashingFileWriter(false, 2);
+        assertThrows(IOException.class, () -> crashingWriter.write(file, "new content"));
+        assertEquals("old content", Files.readString(file));
+        assertFalse(Files.exists(AtomicFileWriter.getTempFilePath(file)));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactSetTest {
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(null));
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_emptyCollections_shareOneInstance() {
+        assertSame(CompactSet.copyOf(new HashSet<>()), CompactSet.copyOf(Collections.emptyList()));
+    }
+
+    @Test
+    public void copyOf_compactSet_returnsSameInstance() {
+        Set<String> set = CompactSet.copyOf(Arrays.asList("a", "b"));
+        assertSame(set, CompactSet.copyOf(set));
+    }
+
+    @Test
+    public void copyOf_duplicates_keepsDistinctElementsInOrder() {
+        Set<String> set = CompactSet.copyOf(Arrays.asList("b", "a", "b"));
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(set));
+    }
+
+    @Test
+    public void equalsAndHashCode_sameElementsAsHashSet() {
+        for (int size : new int[] {0, 1, 2, CompactSet.LINEAR_SEARCH_LIMIT, CompactSet.LINEAR_SEARCH_LIMIT + 5}) {
+            Set<Integer> hashSet = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                hashSet.add(i);
+            }
+            Set<Integer> compactSet = CompactSet.copyOf(hashSet);
+
+            assertEquals(hashSet, compactSet);
+            assertEquals(compactSet, hashSet);
+            assertEquals(hashSet.hashCode(), compactSet.hashCode());
+            assertEquals(size > 0, compactSet.contains(0));
+            assertFalse(compactSet.contains(size));
+            assertFalse(compactSet.contains(null));
+        }
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        Set<String> set = CompactSet.copyOf(Arrays.asList("a", "b"));
+        List<String> absent = Collections.singletonList("c");
+
+        assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.addAll(absent));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeAll(absent));
+        assertThrows(UnsupportedOperationException.class, () -> set.retainAll(absent));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(element -> true));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        assertTrue(set.contains("a"));
+    }
+}
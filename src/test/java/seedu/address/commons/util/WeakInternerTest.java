@@ -0,0 +1,49 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<String> interner = new WeakInterner<>(value -> value);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<String>(null));
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null, () -> "value"));
+    }
+
+    @Test
+    public void intern_sameKey_createsOnce() {
+        AtomicInteger creations = new AtomicInteger();
+        String first = interner.intern("key", () -> {
+            creations.incrementAndGet();
+            return new String("key");
+        });
+        String second = interner.intern("key", () -> {
+            creations.incrementAndGet();
+            return new String("key");
+        });
+
+        assertSame(first, second);
+        assertEquals(1, creations.get());
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_nonCanonicalKey_returnsExistingCanonicalInstance() {
+        String canonical = interner.intern("KEY", () -> new String("KEY"));
+
+        assertSame(canonical, interner.intern("key", () -> new String("KEY")));
+        assertEquals(1, interner.size());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,25 +11,40 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.BackgroundSaver;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -198,6 +215,167 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_addressBookUnchanged_skipsSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("CountingAddressBook.json");
+        int[] saveCount = {0};
+        int[] filePathReadCount = {0};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+
+            @Override
+            public Path getAddressBookFilePath() {
+                filePathReadCount[0]++;
+                return super.getAddressBookFilePath();
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logicManager = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // The first command always saves
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+        filePathReadCount[0] = 0;
+
+        // Read-only commands and a cancelled clear do not save
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute("clear");
+        logicManager.execute("n");
+        assertEquals(1, saveCount[0]);
+        assertEquals(3, logicManager.getSavesAvoided());
+        // The data file is not looked at for each skipped save
+        assertEquals(0, filePathReadCount[0]);
+        assertEquals(3 * Files.size(addressBookPath), logicManager.getBytesNotWritten());
+
+        // Commands changing the address book save
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_manySavesSkipped_summaryLoggedAtInfo() throws Exception {
+        LogicManager logicManager = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        List<LogRecord> summaries = new ArrayList<>();
+        Logger logger = LogsCenter.getLogger(LogicManager.class);
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getLevel() == Level.INFO && record.getMessage().startsWith("Skipped")) {
+                    summaries.add(record);
+                }
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        };
+        logger.addHandler(handler);
+        try {
+            // The first command saves, and the next ones are skipped
+            for (int i = 0; i <= LogicManager.SAVE_SUMMARY_INTERVAL; i++) {
+                logicManager.execute(ListCommand.COMMAND_WORD);
+            }
+            assertEquals(1, summaries.size());
+
+            logicManager.logSaveSummary();
+            assertEquals(2, summaries.size());
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+
+    @Test
+    public void execute_backgroundSaver_savedOnExit() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("BackgroundAddressBook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage, new BackgroundSaver(storage, 60_000));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertFalse(Files.exists(addressBookPath));
+
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_reportedAndRetried() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("FailingAddressBook.json");
+        boolean[] isFailing = {true};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage, new BackgroundSaver(storage, 0));
+        CompletableFuture<String> reported = new CompletableFuture<>();
+        logic.setSaveFailureHandler(reported::complete);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                reported.get(5, TimeUnit.SECONDS));
+
+        // The next command saves again although it changes nothing
+        isFailing[0] = false;
+        logic.execute(ExitCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void applyExternalChanges_conflictingChange_localVersionKeptAndReported() {
+        model.addPerson(AMY);
+        Person localAmy = new PersonBuilder(AMY).withAddress("2 Local Road").build();
+        model.setPerson(AMY, localAmy);
+        AddressBook before = new AddressBook();
+        before.addPerson(AMY);
+        AddressBook after = new AddressBook();
+        after.addPerson(new PersonBuilder(AMY).withAddress("1 Synced Street").build());
+        after.addPerson(HOON);
+        String[] reported = new String[1];
+        logic.setExternalChangeHandler(message -> reported[0] = message);
+
+        logic.applyExternalChanges(AddressBookChanges.between(before, after));
+        assertEquals(String.format(LogicManager.MESSAGE_EXTERNAL_CHANGES_APPLIED, 2)
+                + String.format(LogicManager.MESSAGE_EXTERNAL_CHANGE_CONFLICTS, 1, "made here"), reported[0]);
+        assertEquals(List.of(localAmy, HOON), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void applyExternalChanges_backgroundSaver_resolvedAddressBookSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("ExternalChangesAddressBook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        BackgroundSaver backgroundSaver = new BackgroundSaver(storage, 60_000);
+        logic = new LogicManager(model, storage, backgroundSaver);
+        model.addPerson(AMY);
+        AddressBook before = new AddressBook();
+        before.addPerson(AMY);
+        AddressBook after = new AddressBook(before);
+        after.addPerson(HOON);
+
+        // No command follows the external changes
+        logic.applyExternalChanges(AddressBookChanges.between(before, after));
+        backgroundSaver.flush();
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -4,6 +4,8 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -11,6 +13,7 @@ import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ArchivedPersonKeys;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -79,4 +82,16 @@ public class AddCommandIntegrationTest {
         assertCommandFailure(new AddCommand(personWithDuplicateEmail), model,
                 PersonValidator.MESSAGE_DUPLICATE_EMAIL);
     }
+
+    @Test
+    public void execute_archivedPhoneOrEmail_throwsCommandException() {
+        Person archivedPerson = new PersonBuilder().withName("Archived Person").withPhone("81112222")
+                .withEmail("archived@example.com").build();
+        model.setArchivedPersonKeys(ArchivedPersonKeys.of(List.of(archivedPerson)));
+
+        Person personWithArchivedPhone = new PersonBuilder().withPhone("81112222").build();
+        assertCommandFailure(new AddCommand(personWithArchivedPhone), model, PersonValidator.MESSAGE_ARCHIVED_PHONE);
+        Person personWithArchivedEmail = new PersonBuilder().withEmail("archived@example.com").build();
+        assertCommandFailure(new AddCommand(personWithArchivedEmail), model, PersonValidator.MESSAGE_ARCHIVED_EMAIL);
+    }
 }
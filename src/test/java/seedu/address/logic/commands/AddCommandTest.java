@@ -10,8 +10,10 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -25,8 +27,12 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.ArchivedPersonKeys;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.person.Role;
 import seedu.address.model.person.Status;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagGroup;
 import seedu.address.testutil.PersonBuilder;
 
@@ -371,6 +377,47 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersonsByName(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Tag, Integer> getTagUsageCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByRoleStatusTagGroup(Set<Role> roles, Set<Status> statuses,
+                Set<TagGroup> tagGroups) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonStatistics getPersonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ArchivedPersonKeys getArchivedPersonKeys() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setArchivedPersonKeys(ArchivedPersonKeys archivedPersonKeys) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersons(Collection<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -423,6 +470,11 @@ public class AddCommandTest {
             return Collections.unmodifiableSet(tagGroups);
         }
 
+        @Override
+        public boolean hasTagGroup(TagGroup group) {
+            return tagGroups.contains(group);
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             return hasSamePhoneNumber(person) || hasSameEmail(person);
@@ -438,6 +490,11 @@ public class AddCommandTest {
             return persons.stream().anyMatch(person::isSameEmail);
         }
 
+        @Override
+        public ArchivedPersonKeys getArchivedPersonKeys() {
+            return ArchivedPersonKeys.EMPTY;
+        }
+
         @Override
         public void addPerson(Person person) {
             persons.add(person);
@@ -473,6 +530,11 @@ public class AddCommandTest {
             requireNonNull(person);
             return this.person.isSameEmail(person);
         }
+
+        @Override
+        public ArchivedPersonKeys getArchivedPersonKeys() {
+            return ArchivedPersonKeys.EMPTY;
+        }
     }
 
     /**
@@ -499,6 +561,11 @@ public class AddCommandTest {
             return personsAdded.stream().anyMatch(person::isSameEmail);
         }
 
+        @Override
+        public ArchivedPersonKeys getArchivedPersonKeys() {
+            return ArchivedPersonKeys.EMPTY;
+        }
+
         @Override
         public void addPerson(Person person) {
             requireNonNull(person);
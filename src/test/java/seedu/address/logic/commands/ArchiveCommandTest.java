@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ArchivedPersonKeys;
+import seedu.address.model.person.MatchesRoleStatusTagGroupPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
+import seedu.address.storage.JsonArchiveStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class ArchiveCommandTest {
+
+    private static final Person ISABEL = new PersonBuilder().withName("Isabel Tan").withPhone("81112222")
+            .withEmail("isabel@example.com").withStatus(Status.COMPLETED).build();
+    private static final Person JACK = new PersonBuilder().withName("Jack Lim").withPhone("81113333")
+            .withEmail("jack@example.com").withStatus(Status.COMPLETED).build();
+    private static final MatchesRoleStatusTagGroupPredicate COMPLETED =
+            new MatchesRoleStatusTagGroupPredicate(Set.of(), Set.of(Status.COMPLETED), Set.of());
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_matchingPersons_movedToArchive() throws Exception {
+        JsonArchiveStorage archiveStorage = createStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(ISABEL);
+        addressBook.addPerson(JACK);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(ArchiveCommand.MESSAGE_SUCCESS, 2);
+        assertCommandSuccess(new ArchiveCommand(archiveStorage, COMPLETED), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ISABEL, JACK), archiveStorage.readArchivedPersons());
+        assertEquals(ArchivedPersonKeys.of(List.of(ISABEL, JACK)), model.getArchivedPersonKeys());
+        assertTrue(model.hasSamePhoneNumber(ISABEL));
+    }
+
+    @Test
+    public void execute_phoneOfArchivedPerson_throwsCommandException() throws Exception {
+        JsonArchiveStorage archiveStorage = createStorage();
+        archiveStorage.archivePersons(List.of(ISABEL));
+        Person samePhone = new PersonBuilder(JACK).withPhone(ISABEL.getPhone().value).build();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(samePhone);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        String expectedMessage = String.format(ArchiveCommand.MESSAGE_ARCHIVE_FAILED, String.format(
+                JsonArchiveStorage.MESSAGE_PHONE_ARCHIVED, samePhone.getName(), samePhone.getPhone()));
+        assertCommandFailure(new ArchiveCommand(archiveStorage, COMPLETED), model, expectedMessage);
+        assertEquals(List.of(ISABEL), archiveStorage.readArchivedPersons());
+    }
+
+    @Test
+    public void execute_noMatchingPersons_throwsCommandException() throws Exception {
+        JsonArchiveStorage archiveStorage = createStorage();
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new ArchiveCommand(archiveStorage, COMPLETED), model, ArchiveCommand.MESSAGE_NO_MATCHES);
+        assertTrue(archiveStorage.readArchivedPersons().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        JsonArchiveStorage archiveStorage = createStorage();
+        ArchiveCommand archiveCommand = new ArchiveCommand(archiveStorage, COMPLETED);
+        MatchesRoleStatusTagGroupPredicate pending =
+                new MatchesRoleStatusTagGroupPredicate(Set.of(), Set.of(Status.PENDING), Set.of());
+
+        // same object -> returns true
+        assertTrue(archiveCommand.equals(archiveCommand));
+
+        // same values -> returns true
+        assertTrue(archiveCommand.equals(new ArchiveCommand(archiveStorage, COMPLETED)));
+
+        // different types -> returns false
+        assertFalse(archiveCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(archiveCommand.equals(null));
+
+        // different filters -> returns false
+        assertFalse(archiveCommand.equals(new ArchiveCommand(archiveStorage, pending)));
+    }
+
+    private JsonArchiveStorage createStorage() {
+        return new JsonArchiveStorage(testFolder.resolve("addressbook.archive.json.gz"));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.ChunkedBackupStorage;
+
+public class BackupCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_addressBookBackedUp_success() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int personCount = model.getAddressBook().getPersonList().size();
+
+        String expectedMessage = String.format(BackupCommand.MESSAGE_SUCCESS, personCount, 1, personCount);
+        assertCommandSuccess(new BackupCommand(backupStorage), model, expectedMessage, expectedModel);
+
+        // nothing changed, so nothing new is stored
+        expectedMessage = String.format(BackupCommand.MESSAGE_SUCCESS, personCount, 2, 0);
+        assertCommandSuccess(new BackupCommand(backupStorage), model, expectedMessage, expectedModel);
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(backupStorage.readBackup(2).get()));
+    }
+
+    @Test
+    public void execute_moreGenerationsThanRetained_oldestDeleted() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStorageSettings(new StorageSettings().withAutoBackup(24, 2));
+        Model model = new ModelManager(new AddressBook(), userPrefs);
+        Model expectedModel = new ModelManager(new AddressBook(), userPrefs);
+
+        new BackupCommand(backupStorage).execute(model);
+        new BackupCommand(backupStorage).execute(model);
+        String expectedMessage = String.format(BackupCommand.MESSAGE_SUCCESS, 0, 3, 0)
+                + String.format(BackupCommand.MESSAGE_PRUNED, 1);
+        assertCommandSuccess(new BackupCommand(backupStorage), model, expectedMessage, expectedModel);
+        assertEquals(List.of(2L, 3L), backupStorage.getBackupGenerations());
+    }
+
+    @Test
+    public void equals() {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        BackupCommand backupCommand = new BackupCommand(backupStorage);
+
+        // same object -> returns true
+        assertTrue(backupCommand.equals(backupCommand));
+
+        // same storage -> returns true
+        assertTrue(backupCommand.equals(new BackupCommand(backupStorage)));
+
+        // different types -> returns false
+        assertFalse(backupCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(backupCommand.equals(null));
+
+        // different storage -> returns false
+        assertFalse(backupCommand.equals(new BackupCommand(new ChunkedBackupStorage(testFolder))));
+    }
+
+}
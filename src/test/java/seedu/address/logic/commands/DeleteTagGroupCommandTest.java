@@ -9,8 +9,10 @@ import static seedu.address.logic.commands.DeleteTagGroupCommand.MESSAGE_TAGGROU
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -23,7 +25,12 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.ArchivedPersonKeys;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Status;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagGroup;
 
 /**
@@ -211,6 +218,47 @@ public class DeleteTagGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersonsByName(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Tag, Integer> getTagUsageCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByRoleStatusTagGroup(Set<Role> roles, Set<Status> statuses,
+                Set<TagGroup> tagGroups) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonStatistics getPersonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ArchivedPersonKeys getArchivedPersonKeys() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setArchivedPersonKeys(ArchivedPersonKeys archivedPersonKeys) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersons(Collection<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
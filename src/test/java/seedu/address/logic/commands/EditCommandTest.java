@@ -63,6 +63,11 @@ public class EditCommandTest {
             return Collections.unmodifiableSet(tagGroups);
         }
 
+        @Override
+        public boolean hasTagGroup(TagGroup group) {
+            return tagGroups.contains(group);
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             return filteredPersonList;
@@ -105,6 +110,17 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_editedPerson_keepsId() throws Exception {
+        Person personToEdit = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build();
+
+        new EditCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        Person editedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertEquals(personToEdit.getId(), editedPerson.getId());
+    }
+
     @Test
     public void execute_someFieldsSpecifiedUnfilteredList_success() {
         Index indexLastPerson = Index.fromOneBased(model.getFilteredPersonList().size());
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.storage.JsonArchiveStorage;
+
+public class FindArchivedCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_keywords_archivedPersonsListed() throws Exception {
+        JsonArchiveStorage archiveStorage = createStorage();
+        archiveStorage.archivePersons(List.of(ALICE, BENSON, DANIEL));
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(FindArchivedCommand.MESSAGE_ARCHIVED_PERSONS_FOUND, 2)
+                + "\n1. " + Messages.format(BENSON)
+                + "\n2. " + Messages.format(DANIEL);
+        assertCommandSuccess(new FindArchivedCommand(archiveStorage, predicate("Meier")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noArchive_noPersonFound() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(FindArchivedCommand.MESSAGE_ARCHIVED_PERSONS_FOUND, 0);
+        assertCommandSuccess(new FindArchivedCommand(createStorage(), predicate("Alice")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        JsonArchiveStorage archiveStorage = createStorage();
+        FindArchivedCommand findFirstCommand = new FindArchivedCommand(archiveStorage, predicate("first"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindArchivedCommand(archiveStorage, predicate("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(new FindArchivedCommand(archiveStorage, predicate("second"))));
+
+        // not archived -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(predicate("first"))));
+    }
+
+    private JsonArchiveStorage createStorage() {
+        return new JsonArchiveStorage(testFolder.resolve("addressbook.archive.json.gz"));
+    }
+
+    private NameContainsKeywordsPredicate predicate(String keyword) {
+        return new NameContainsKeywordsPredicate(List.of(keyword));
+    }
+}
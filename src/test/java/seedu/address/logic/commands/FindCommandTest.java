@@ -19,6 +19,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +76,21 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personsChangedAfterFind_changesTestedAgainstKeywords() {
+        new FindCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress("jurong west").build();
+        model.setPerson(CARL, editedCarl);
+        Person newKurz = new PersonBuilder().withName("Anna Kurz").withPhone("91234567")
+                .withEmail("anna.kurz@example.com").build();
+        model.addPerson(newKurz);
+        model.addPerson(new PersonBuilder().withName("Someone Else").withPhone("92345678")
+                .withEmail("someone@example.com").build());
+
+        assertEquals(Arrays.asList(editedCarl, ELLE, FIONA, newKurz), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ChunkedBackupStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class RestoreCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_changedSinceBackup_changesUndone() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        backupStorage.backUpAddressBook(model.getAddressBook());
+
+        model.deletePerson(BENSON);
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withAddress("Changed address").build());
+        Person added = new PersonBuilder().withName("New Person").withPhone("99990000")
+                .withEmail("new@example.com").build();
+        model.addPerson(added);
+
+        // a person deleted since the backup is added back at the end of the list
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(BENSON);
+        expectedModel.addPerson(BENSON);
+        String expectedMessage = String.format(RestoreCommand.MESSAGE_SUCCESS, 1, 3);
+        assertCommandSuccess(new RestoreCommand(backupStorage, 1), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownGeneration_throwsCommandException() throws Exception {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new RestoreCommand(backupStorage, 1), model,
+                String.format(RestoreCommand.MESSAGE_NO_BACKUPS, 1));
+
+        backupStorage.backUpAddressBook(model.getAddressBook());
+        backupStorage.backUpAddressBook(model.getAddressBook());
+        assertCommandFailure(new RestoreCommand(backupStorage, 5), model,
+                String.format(RestoreCommand.MESSAGE_UNKNOWN_GENERATION, 5, "1, 2"));
+    }
+
+    @Test
+    public void equals() {
+        ChunkedBackupStorage backupStorage = new ChunkedBackupStorage(testFolder);
+        RestoreCommand restoreFirstCommand = new RestoreCommand(backupStorage, 1);
+
+        // same object -> returns true
+        assertTrue(restoreFirstCommand.equals(restoreFirstCommand));
+
+        // same values -> returns true
+        assertTrue(restoreFirstCommand.equals(new RestoreCommand(backupStorage, 1)));
+
+        // different types -> returns false
+        assertFalse(restoreFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(restoreFirstCommand.equals(null));
+
+        // different generation -> returns false
+        assertFalse(restoreFirstCommand.equals(new RestoreCommand(backupStorage, 2)));
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -47,29 +49,69 @@ public class StatsCommandTest {
 
         CommandResult result = statsCommand.execute(model);
 
-        // Count the actual statuses in typical address book
-        int pendingCount = 0;
-        int completedCount = 0;
-        int noStatusCount = 0;
-
-        for (Person person : model.getAddressBook().getPersonList()) {
-            if (person.getStatus().isEmpty()) {
-                noStatusCount++;
-            } else if (person.getStatus().get() == Status.PENDING) {
-                pendingCount++;
-            } else if (person.getStatus().get() == Status.COMPLETED) {
-                completedCount++;
-            }
-        }
-
-        int totalCount = pendingCount + completedCount + noStatusCount;
-
-        String expectedMessage = String.format("Status Statistics:\n"
-                + "- Pending: %d contact(s)\n"
-                + "- Completed: %d contact(s)\n"
-                + "- No Status: %d contact(s)\n"
-                + "Total: %d contact(s)",
-                pendingCount, completedCount, noStatusCount, totalCount);
+        String expectedMessage = "Status Statistics:\n"
+                + "- Pending: 7 contact(s)\n"
+                + "- Completed: 0 contact(s)\n"
+                + "- No Status: 0 contact(s)\n"
+                + "Total: 7 contact(s)\n"
+                + "\n"
+                + "Role Statistics:\n"
+                + "- buyer: 1 contact(s)\n"
+                + "- renter: 1 contact(s)\n"
+                + "\n"
+                + "Tag Statistics:\n"
+                + "- friends: 3 contact(s)\n"
+                + "- owesMoney: 1 contact(s)";
+
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_rolesAndTagGroups_groupsCountsIgnoringRoleCase() {
+        Model modelWithGroups = new ModelManager();
+        modelWithGroups.addPerson(new PersonBuilder().withRoles("Buyer")
+                .withTags("LOCATION.north", "LOCATION.south").build());
+        modelWithGroups.addPerson(new PersonBuilder().withName("Bob").withPhone("98765432")
+                .withEmail("bob@example.com").withRoles("buyer", "Seller").withTags("LOCATION.north").build());
+
+        CommandResult result = new StatsCommand().execute(modelWithGroups);
+
+        String expectedMessage = "Status Statistics:\n"
+                + "- Pending: 0 contact(s)\n"
+                + "- Completed: 0 contact(s)\n"
+                + "- No Status: 2 contact(s)\n"
+                + "Total: 2 contact(s)\n"
+                + "\n"
+                + "Role Statistics:\n"
+                + "- buyer: 2 contact(s)\n"
+                + "- seller: 1 contact(s)\n"
+                + "\n"
+                + "Tag Group Statistics:\n"
+                + "- LOCATION: 2 contact(s)\n"
+                + "\n"
+                + "Tag Statistics:\n"
+                + "- LOCATION.north: 2 contact(s)\n"
+                + "- LOCATION.south: 1 contact(s)";
+
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_afterEditAndDelete_reflectsChanges() {
+        Person editedAlice = new PersonBuilder(ALICE).withStatus(Status.COMPLETED).withTags().build();
+        model.setPerson(ALICE, editedAlice);
+        model.deletePerson(BENSON);
+
+        CommandResult result = new StatsCommand().execute(model);
+
+        String expectedMessage = "Status Statistics:\n"
+                + "- Pending: 5 contact(s)\n"
+                + "- Completed: 1 contact(s)\n"
+                + "- No Status: 0 contact(s)\n"
+                + "Total: 6 contact(s)\n"
+                + "\n"
+                + "Tag Statistics:\n"
+                + "- friends: 1 contact(s)";
 
         assertEquals(expectedMessage, result.getFeedbackToUser());
     }
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.TagGroup;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code TagsCommand}.
+ */
+public class TagsCommandTest {
+
+    @Test
+    public void execute_noTagsInUse_showsNoTagsMessage() {
+        CommandResult result = new TagsCommand().execute(new ModelManager());
+        assertEquals(TagsCommand.MESSAGE_NO_TAGS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_typicalAddressBook_showsSortedUsageCounts() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult result = new TagsCommand().execute(model);
+
+        String expectedMessage = "Tag Usage:\n"
+                + "- friends: 3 contact(s)\n"
+                + "- owesMoney: 1 contact(s)";
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_afterEditAndDelete_showsLiveUsageCounts() {
+        Model model = new ModelManager();
+        model.addTagGroup(new TagGroup("location"));
+        model.addPerson(ALICE);
+        model.addPerson(new PersonBuilder().withTags("location.north").build());
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withTags("location.north").build());
+
+        CommandResult result = new TagsCommand().execute(model);
+        assertEquals("Tag Usage:\n- LOCATION.north: 2 contact(s)", result.getFeedbackToUser());
+
+        model.deletePerson(model.getAddressBook().getPersonList().get(0));
+        result = new TagsCommand().execute(model);
+        assertEquals("Tag Usage:\n- LOCATION.north: 1 contact(s)", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        TagsCommand tagsCommand = new TagsCommand();
+
+        // same object -> returns true
+        assertTrue(tagsCommand.equals(tagsCommand));
+
+        // same type -> returns true
+        assertTrue(tagsCommand.equals(new TagsCommand()));
+
+        // different types -> returns false
+        assertFalse(tagsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(tagsCommand.equals(null));
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -15,6 +16,8 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteTagGroupCommand;
@@ -22,10 +25,13 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindArchivedCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.TagGroupCommand;
+import seedu.address.logic.commands.TagsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.MatchesRoleStatusTagGroupPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -33,13 +39,19 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Role;
 import seedu.address.model.person.Status;
 import seedu.address.model.tag.TagGroup;
+import seedu.address.storage.ArchiveStorage;
+import seedu.address.storage.BackupStorage;
+import seedu.address.storage.ChunkedBackupStorage;
+import seedu.address.storage.JsonArchiveStorage;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
 
 public class AddressBookParserTest {
 
-    private final AddressBookParser parser = new AddressBookParser();
+    private final BackupStorage backupStorage = new ChunkedBackupStorage(Path.of("unused.backups"));
+    private final ArchiveStorage archiveStorage = new JsonArchiveStorage(Path.of("unused.archive.json.gz"));
+    private final AddressBookParser parser = new AddressBookParser(backupStorage, archiveStorage);
 
     @Test
     public void parseCommand_add() throws Exception {
@@ -85,6 +97,14 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findArchived() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar");
+        FindArchivedCommand command = (FindArchivedCommand) parser.parseCommand(
+                FindCommand.COMMAND_WORD + " " + FindArchivedCommand.ARCHIVED_FLAG + " foo bar");
+        assertEquals(new FindArchivedCommand(archiveStorage, new NameContainsKeywordsPredicate(keywords)), command);
+    }
+
     @Test
     public void parseCommand_filter() throws Exception {
         Set<Role> roles = Set.of(new Role("seller"), new Role("buyer"));
@@ -98,12 +118,26 @@ public class AddressBookParserTest {
         assertEquals(new FilterCommand(predicate), command);
     }
 
+    @Test
+    public void parseCommand_archive() throws Exception {
+        MatchesRoleStatusTagGroupPredicate predicate =
+                new MatchesRoleStatusTagGroupPredicate(Set.of(), Set.of(Status.COMPLETED), Set.of());
+        ArchiveCommand command = (ArchiveCommand) parser.parseCommand(ArchiveCommand.COMMAND_WORD + " s/completed");
+        assertEquals(new ArchiveCommand(archiveStorage, predicate), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_tags() throws Exception {
+        assertTrue(parser.parseCommand(TagsCommand.COMMAND_WORD) instanceof TagsCommand);
+        assertTrue(parser.parseCommand(TagsCommand.COMMAND_WORD + " 3") instanceof TagsCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -128,6 +162,18 @@ public class AddressBookParserTest {
                 parser.parseCommand(DeleteTagGroupCommand.COMMAND_WORD + " "));
     }
 
+    @Test
+    public void parseCommand_backup() throws Exception {
+        assertEquals(new BackupCommand(backupStorage), parser.parseCommand(BackupCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_restore() throws Exception {
+        assertEquals(new RestoreCommand(backupStorage, 3), parser.parseCommand(RestoreCommand.COMMAND_WORD + " 3"));
+        assertThrows(ParseException.class, () ->
+                parser.parseCommand(RestoreCommand.COMMAND_WORD + " 0"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
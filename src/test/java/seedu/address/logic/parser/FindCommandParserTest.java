@@ -4,16 +4,21 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.FindArchivedCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.storage.ArchiveStorage;
+import seedu.address.storage.JsonArchiveStorage;
 
 public class FindCommandParserTest {
 
-    private FindCommandParser parser = new FindCommandParser();
+    private ArchiveStorage archiveStorage = new JsonArchiveStorage(Path.of("unused.archive.json.gz"));
+    private FindCommandParser parser = new FindCommandParser(archiveStorage);
 
     @Test
     public void parse_emptyArg_throwsParseException() {
@@ -31,4 +36,20 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_archivedFlag_returnsFindArchivedCommand() {
+        FindArchivedCommand expectedFindArchivedCommand = new FindArchivedCommand(archiveStorage,
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+        assertParseSuccess(parser, "--archived Alice Bob", expectedFindArchivedCommand);
+        assertParseSuccess(parser, " \n --archived \t Alice  Bob", expectedFindArchivedCommand);
+
+        // no keywords after the flag
+        assertParseFailure(parser, " --archived ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // the flag is only recognised before the keywords
+        assertParseSuccess(parser, "Alice --archived",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "--archived"))));
+    }
+
 }
@@ -0,0 +1,138 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GROUP_PROPERTY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.StorageSettings.ExternalChangePolicy;
+import seedu.address.model.AddressBookChanges.PersonChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagGroup;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookChangesTest {
+
+    private static final Person EDITED_ALICE = new PersonBuilder(ALICE).withAddress("1 Synced Street").build();
+    private static final Person LOCAL_ALICE = new PersonBuilder(ALICE).withAddress("2 Local Road").build();
+    private static final Person NEW_PERSON = new PersonBuilder().withName("Zed Synced").withPhone("81112222")
+            .withEmail("zed@example.com").build();
+
+    @Test
+    public void between_sameAddressBook_noChanges() {
+        assertTrue(AddressBookChanges.between(getTypicalAddressBook(), getTypicalAddressBook()).isEmpty());
+    }
+
+    @Test
+    public void between_changedPersons_matchedByPhoneOrEmail() {
+        AddressBook after = getTypicalAddressBook();
+        after.setPerson(ALICE, EDITED_ALICE);
+        // Matched by email, as the phone number changed
+        Person bensonWithNewPhone = new PersonBuilder(BENSON).withPhone("81234567").build();
+        after.setPerson(BENSON, bensonWithNewPhone);
+        after.removePerson(CARL);
+        after.addPerson(NEW_PERSON);
+
+        AddressBookChanges changes = AddressBookChanges.between(getTypicalAddressBook(), after);
+        assertEquals(List.of(new PersonChange(CARL, null), new PersonChange(ALICE, EDITED_ALICE),
+                new PersonChange(BENSON, bensonWithNewPhone), new PersonChange(null, NEW_PERSON)),
+                changes.getPersonChanges());
+    }
+
+    @Test
+    public void applyTo_noLocalChanges_appliedKeepingIds() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook after = getTypicalAddressBook();
+        after.setPerson(ALICE, EDITED_ALICE);
+        after.removePerson(CARL);
+        after.addPerson(NEW_PERSON);
+
+        AddressBookChanges changes = AddressBookChanges.between(getTypicalAddressBook(), after);
+        assertEquals(0, changes.applyTo(model, ExternalChangePolicy.KEEP_LOCAL));
+        assertEquals(after, model.getAddressBook());
+        assertEquals(ALICE.getId(), model.getAddressBook().getPersonList().get(0).getId());
+    }
+
+    @Test
+    public void applyTo_addedPersonWithIdTaken_addedWithNewId() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook after = getTypicalAddressBook();
+        Person newPersonWithAliceId = new Person(ALICE.getId(), NEW_PERSON.getName(), NEW_PERSON.getPhone(),
+                NEW_PERSON.getEmail(), NEW_PERSON.getAddress(), NEW_PERSON.getRoles(), NEW_PERSON.getStatus(),
+                NEW_PERSON.getTags());
+        AddressBook before = new AddressBook(after);
+        after.removePerson(ALICE);
+        after.addPerson(newPersonWithAliceId);
+        before.removePerson(ALICE);
+
+        AddressBookChanges changes = AddressBookChanges.between(before, after);
+        assertEquals(0, changes.applyTo(model, ExternalChangePolicy.KEEP_LOCAL));
+        assertTrue(model.getAddressBook().getPersonList().contains(ALICE));
+        assertTrue(model.getAddressBook().getPersonList().contains(NEW_PERSON));
+    }
+
+    @Test
+    public void applyTo_changesAlreadyMade_nothingChanged() {
+        AddressBook after = getTypicalAddressBook();
+        after.setPerson(ALICE, EDITED_ALICE);
+        ModelManager model = new ModelManager(after, new UserPrefs());
+        long version = model.getAddressBookVersion();
+
+        AddressBookChanges changes = AddressBookChanges.between(getTypicalAddressBook(), after);
+        assertEquals(0, changes.applyTo(model, ExternalChangePolicy.KEEP_EXTERNAL));
+        assertEquals(version, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void applyTo_conflictWithKeepLocal_localVersionKept() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setPerson(ALICE, LOCAL_ALICE);
+        AddressBook after = getTypicalAddressBook();
+        after.setPerson(ALICE, EDITED_ALICE);
+        after.addPerson(NEW_PERSON);
+
+        AddressBookChanges changes = AddressBookChanges.between(getTypicalAddressBook(), after);
+        assertEquals(1, changes.applyTo(model, ExternalChangePolicy.KEEP_LOCAL));
+        assertTrue(model.getAddressBook().getPersonList().contains(LOCAL_ALICE));
+        assertTrue(model.getAddressBook().getPersonList().contains(NEW_PERSON));
+    }
+
+    @Test
+    public void applyTo_conflictWithKeepExternal_externalVersionKept() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setPerson(ALICE, LOCAL_ALICE);
+        model.deletePerson(CARL);
+        AddressBook after = getTypicalAddressBook();
+        after.setPerson(ALICE, EDITED_ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withAddress("3 Synced Lane").build();
+        after.setPerson(CARL, editedCarl);
+
+        AddressBookChanges changes = AddressBookChanges.between(getTypicalAddressBook(), after);
+        assertEquals(2, changes.applyTo(model, ExternalChangePolicy.KEEP_EXTERNAL));
+        assertTrue(model.getAddressBook().getPersonList().contains(EDITED_ALICE));
+        assertFalse(model.getAddressBook().getPersonList().contains(LOCAL_ALICE));
+        assertTrue(model.getAddressBook().getPersonList().contains(editedCarl));
+    }
+
+    @Test
+    public void applyTo_addedTagGroup_addedToModel() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook after = getTypicalAddressBook();
+        TagGroup group = new TagGroup(VALID_TAG_GROUP_PROPERTY);
+        after.addTagGroup(group);
+
+        AddressBookChanges changes = AddressBookChanges.between(getTypicalAddressBook(), after);
+        assertEquals(Set.of(group), changes.getAddedTagGroups());
+        changes.applyTo(model, ExternalChangePolicy.KEEP_LOCAL);
+        assertTrue(model.hasTagGroup(group));
+    }
+}
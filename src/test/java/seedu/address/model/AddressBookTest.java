@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GROUP_LOCATION;
@@ -24,6 +25,8 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexSnapshot;
+import seedu.address.model.person.Status;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.TagGroup;
 import seedu.address.testutil.PersonBuilder;
@@ -60,6 +63,71 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void findPersonsByName_afterEdit_usesEditedName() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        assertTrue(addressBook.findPersonsByName(Collections.singletonList("Alice")).isEmpty());
+        assertEquals(Collections.singleton(editedAlice),
+                new HashSet<>(addressBook.findPersonsByName(Collections.singletonList("alicia"))));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.findPersonsByName(Collections.singletonList("alicia")).isEmpty());
+    }
+
+    @Test
+    public void removePerson_staleKeyWithSameId_unindexesStoredPerson() {
+        addressBook.addPerson(ALICE);
+        Person staleAlice = withAliceId(new PersonBuilder(ALICE).withName("Alicia Tan").withTags(VALID_TAG_HUSBAND)
+                .withStatus(Status.COMPLETED).build());
+        addressBook.removePerson(staleAlice);
+
+        assertTrue(addressBook.findPersonsByName(Collections.singletonList("Alice")).isEmpty());
+        assertEquals(new AddressBook().getTagUsageCounts(), addressBook.getTagUsageCounts());
+        assertEquals(0, addressBook.getPersonStatistics().getStatusCount(Status.PENDING));
+        assertEquals(0, addressBook.getPersonStatistics().getStatusCount(Status.COMPLETED));
+    }
+
+    @Test
+    public void setPerson_staleTargetWithSameId_unindexesStoredPerson() {
+        addressBook.addPerson(ALICE);
+        Person staleAlice = withAliceId(new PersonBuilder(ALICE).withName("Alicia Tan").withTags(VALID_TAG_HUSBAND)
+                .withStatus(Status.COMPLETED).build());
+        Person editedAlice = withAliceId(new PersonBuilder(ALICE).withName("Alice Lim").build());
+        addressBook.setPerson(staleAlice, editedAlice);
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(editedAlice);
+        assertEquals(Collections.singleton(editedAlice),
+                new HashSet<>(addressBook.findPersonsByName(Collections.singletonList("Alice"))));
+        assertEquals(expected.getTagUsageCounts(), addressBook.getTagUsageCounts());
+        assertEquals(1, addressBook.getPersonStatistics().getStatusCount(Status.PENDING));
+        assertEquals(0, addressBook.getPersonStatistics().getStatusCount(Status.COMPLETED));
+    }
+
+    @Test
+    public void setPersons_withIndexes_sameAsBuiltIndexes() {
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        addressBook.setPersons(persons, PersonIndexSnapshot.of(persons));
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertEquals(getTypicalAddressBook().findPersonsByName(List.of("meier")),
+                addressBook.findPersonsByName(List.of("meier")));
+
+        // Copies reuse the indexes until the persons change
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(addressBook.findPersonsByName(List.of("meier")), copy.findPersonsByName(List.of("meier")));
+        addressBook.removePerson(ALICE);
+        assertTrue(new AddressBook(addressBook).findPersonsByName(List.of("alice")).isEmpty());
+    }
+
+    @Test
+    public void setPersons_indexesOverOtherPersons_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> addressBook.setPersons(
+                getTypicalAddressBook().getPersonList(), PersonIndexSnapshot.of(List.of(ALICE))));
+    }
+
     @Test
     public void resetData_withTagGroups_replacesTagGroups() {
         // Setup: Create an address book with tag groups
@@ -83,6 +151,29 @@ public class AddressBookTest {
         assertEquals(1, addressBook.getTagGroups().size());
     }
 
+    @Test
+    public void getVersion_changedOnlyByMutations() {
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.findPersonsByName(List.of("Alice"));
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.addTagGroup(new TagGroup(VALID_TAG_GROUP_PROPERTY));
+        assertNotEquals(version, addressBook.getVersion());
+
+        // Adding a Tag Group already present changes nothing
+        version = addressBook.getVersion();
+        addressBook.addTagGroup(new TagGroup(VALID_TAG_GROUP_PROPERTY));
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -143,6 +234,11 @@ public class AddressBookTest {
         assertFalse(addressBook.hasTagGroup(group));
     }
 
+    private static Person withAliceId(Person person) {
+        return new Person(ALICE.getId(), person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getRoles(), person.getStatus(), person.getTags());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
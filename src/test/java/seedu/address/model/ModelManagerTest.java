@@ -7,17 +7,24 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ArchivedPersonKeys;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.TagGroup;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -97,6 +104,60 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void addPerson_activeFilter_keepsFilterAndTestsOnlyNewPerson() {
+        modelManager.addPerson(ALICE);
+        int[] evaluations = {0};
+        modelManager.updateFilteredPersonList(person -> {
+            evaluations[0]++;
+            return person.getName().fullName.startsWith("B");
+        });
+        evaluations[0] = 0;
+
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(new PersonBuilder().withName("Carl").withPhone("91234567")
+                .withEmail("carl@example.com").build());
+
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(2, evaluations[0]);
+    }
+
+    @Test
+    public void hasSamePhoneNumberAndEmail_archivedPerson_returnsTrue() {
+        modelManager.setArchivedPersonKeys(ArchivedPersonKeys.of(List.of(ALICE)));
+        assertTrue(modelManager.hasSamePhoneNumber(ALICE));
+        assertTrue(modelManager.hasSameEmail(ALICE));
+        assertFalse(modelManager.hasSamePhoneNumber(BENSON));
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void addAndSetPerson_archivedPhoneOrEmail_throwsDuplicatePersonException() {
+        modelManager.addPerson(BENSON);
+        modelManager.setArchivedPersonKeys(ArchivedPersonKeys.of(List.of(ALICE)));
+        Person withAlicePhone = new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build();
+        Person withAliceEmail = new PersonBuilder(BENSON).withEmail(ALICE.getEmail().value).build();
+
+        assertThrows(DuplicatePersonException.class, () -> modelManager.addPerson(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> modelManager.setPerson(BENSON, withAlicePhone));
+        assertThrows(DuplicatePersonException.class, () -> modelManager.setPerson(BENSON, withAliceEmail));
+
+        // unchanged fields are not checked
+        Person editedBenson = new PersonBuilder(BENSON).withAddress("Changed address").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertTrue(modelManager.hasPerson(editedBenson));
+    }
+
+    @Test
+    public void deletePersons_personsInAddressBook_allDeleted() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.deletePersons(List.of(ALICE, CARL));
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(CARL));
+        assertEquals(getTypicalPersons().size() - 2, modelManager.getFilteredPersonList().size());
+        assertThrows(PersonNotFoundException.class, () -> modelManager.deletePersons(List.of(ALICE)));
+    }
+
     @Test
     public void addTagGroup_hasTagGroup_groupAdded() {
         TagGroup group = new TagGroup("propertyType");
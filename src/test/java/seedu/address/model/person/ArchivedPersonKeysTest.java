@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ArchivedPersonKeysTest {
+
+    @Test
+    public void contains_archivedPhonesAndEmails_returnsTrue() {
+        ArchivedPersonKeys keys = ArchivedPersonKeys.of(List.of(ALICE, BENSON));
+        assertTrue(keys.containsPhone(ALICE.getPhone()));
+        assertTrue(keys.containsEmail(BENSON.getEmail()));
+        assertTrue(keys.containsPhoneOrEmail(new PersonBuilder(CARL).withEmail(ALICE.getEmail().value).build()));
+        assertEquals(2, keys.size());
+        assertEquals(Math.max(ALICE.getId(), BENSON.getId()), keys.getMaxId());
+    }
+
+    @Test
+    public void contains_otherPhonesAndEmails_returnsFalse() {
+        ArchivedPersonKeys keys = ArchivedPersonKeys.of(List.of(ALICE, BENSON));
+        assertFalse(keys.containsPhone(CARL.getPhone()));
+        assertFalse(keys.containsEmail(CARL.getEmail()));
+        assertFalse(keys.containsPhoneOrEmail(CARL));
+        assertFalse(ArchivedPersonKeys.EMPTY.containsPhoneOrEmail(ALICE));
+    }
+
+    @Test
+    public void hash_stableAcrossRuns() {
+        // the hashes are stored on disk, so they must not change
+        assertEquals(0xcbf29ce484222325L, ArchivedPersonKeys.hash(""));
+        assertEquals(0xaf63dc4c8601ec8cL, ArchivedPersonKeys.hash("a"));
+    }
+
+    @Test
+    public void equals() {
+        ArchivedPersonKeys keys = ArchivedPersonKeys.of(List.of(ALICE, BENSON));
+
+        // same values in another order -> returns true
+        assertTrue(keys.equals(ArchivedPersonKeys.of(List.of(BENSON, ALICE))));
+        assertTrue(keys.equals(new ArchivedPersonKeys(keys.getPhoneHashes(), keys.getEmailHashes(),
+                keys.getMaxId())));
+        assertEquals(keys.hashCode(), ArchivedPersonKeys.of(List.of(BENSON, ALICE)).hashCode());
+
+        // null -> returns false
+        assertFalse(keys.equals(null));
+
+        // different persons -> returns false
+        assertFalse(keys.equals(ArchivedPersonKeys.of(List.of(ALICE, CARL))));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.TagGroup;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilterBitmapIndexTest {
+
+    private static final Person BUYER = new PersonBuilder().withPhone("11111111").withEmail("buyer@example.com")
+            .withRoles("Buyer").withStatus(Status.PENDING).build();
+    private static final Person SELLER = new PersonBuilder().withPhone("22222222").withEmail("seller@example.com")
+            .withRoles("seller").withStatus(Status.COMPLETED).withTags("location.north").build();
+    private static final Person NO_ATTRIBUTES = new PersonBuilder().withPhone("33333333")
+            .withEmail("none@example.com").withoutStatus().build();
+
+    private final FilterBitmapIndex index = new FilterBitmapIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_noCriteria_returnsEmptySet() {
+        index.setPersons(Arrays.asList(BUYER, SELLER, NO_ATTRIBUTES));
+        assertTrue(index.getPersonsMatchingAny(Collections.emptySet(), Collections.emptySet(),
+                Collections.emptySet()).isEmpty());
+    }
+
+    @Test
+    public void getPersonsMatchingAny_roleIgnoringCase_returnsMatchingPersons() {
+        index.setPersons(Arrays.asList(BUYER, SELLER, NO_ATTRIBUTES));
+        assertEquals(asSet(BUYER), match(Set.of(new Role("BUYER")), Set.of(), Set.of()));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_unionOfCriteria_returnsAllMatchingPersons() {
+        index.setPersons(Arrays.asList(BUYER, SELLER, NO_ATTRIBUTES));
+        assertEquals(asSet(BUYER, SELLER), match(Set.of(), Set.of(Status.PENDING),
+                Set.of(new TagGroup("location"))));
+        assertEquals(asSet(SELLER), match(Set.of(new Role("agent")), Set.of(Status.COMPLETED), Set.of()));
+    }
+
+    @Test
+    public void remove_person_slotIsClearedAndReused() {
+        index.add(BUYER);
+        index.add(SELLER);
+        index.remove(new PersonBuilder(BUYER).build());
+        assertTrue(match(Set.of(new Role("buyer")), Set.of(Status.PENDING), Set.of()).isEmpty());
+
+        Person newBuyer = new PersonBuilder(NO_ATTRIBUTES).withRoles("buyer").build();
+        index.add(newBuyer);
+        assertEquals(asSet(newBuyer), match(Set.of(new Role("buyer")), Set.of(), Set.of()));
+        assertEquals(asSet(SELLER), match(Set.of(), Set.of(Status.COMPLETED), Set.of()));
+    }
+
+    private Set<Person> match(Set<Role> roles, Set<Status> statuses, Set<TagGroup> tagGroups) {
+        return new HashSet<>(index.getPersonsMatchingAny(roles, statuses, tagGroups));
+    }
+
+    private static Set<Person> asSet(Person... persons) {
+        return new HashSet<>(Arrays.asList(persons));
+    }
+}
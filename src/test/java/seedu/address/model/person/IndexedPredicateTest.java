@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexedPredicateTest {
+
+    private final NameContainsKeywordsPredicate alicePredicate =
+            new NameContainsKeywordsPredicate(Collections.singletonList("Alice"));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IndexedPredicate(null, Collections.emptySet()));
+        assertThrows(NullPointerException.class, () -> new IndexedPredicate(alicePredicate, null));
+    }
+
+    @Test
+    public void test_beforeDiscard_answersFromIndexedMatches() {
+        // the indexed matches are trusted as they are, even if they disagree with the predicate
+        IndexedPredicate predicate = new IndexedPredicate(alicePredicate, Collections.singleton(BENSON));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void test_afterDiscard_evaluatesPredicate() {
+        IndexedPredicate predicate = new IndexedPredicate(alicePredicate, Collections.singleton(BENSON));
+        predicate.discardIndexedMatches();
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void equals() {
+        IndexedPredicate predicate = new IndexedPredicate(alicePredicate, Collections.emptySet());
+
+        assertEquals(predicate, new IndexedPredicate(alicePredicate, Collections.singleton(ALICE)));
+        assertNotEquals(predicate, new IndexedPredicate(
+                new NameContainsKeywordsPredicate(Arrays.asList("Benson")), Collections.emptySet()));
+        assertNotEquals(predicate, alicePredicate);
+        assertNotEquals(predicate, null);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_emptyIndex_returnsEmptySet() {
+        assertTrue(index.getPersonsMatchingAny(Collections.singletonList("Alice")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsMatchingAny_mixedCaseKeywords_returnsMatchingPersons() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        assertEquals(asSet(ALICE), new HashSet<>(index.getPersonsMatchingAny(Arrays.asList("aLIce"))));
+        assertEquals(asSet(BENSON, DANIEL), new HashSet<>(index.getPersonsMatchingAny(Arrays.asList("MEIER"))));
+        assertEquals(asSet(ALICE, CARL), new HashSet<>(index.getPersonsMatchingAny(Arrays.asList("Kurz", "Pauline"))));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_partialWord_returnsEmptySet() {
+        index.add(ALICE);
+        assertTrue(index.getPersonsMatchingAny(Arrays.asList("Ali", "")).isEmpty());
+    }
+
+    @Test
+    public void remove_personWithEqualFields_removesFromAllPostings() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(new PersonBuilder(ALICE).build());
+
+        assertTrue(index.getPersonsMatchingAny(Arrays.asList("Alice", "Pauline")).isEmpty());
+        assertEquals(asSet(BENSON), new HashSet<>(index.getPersonsMatchingAny(Arrays.asList("Benson"))));
+    }
+
+    private static Set<Person> asSet(Person... persons) {
+        return new HashSet<>(Arrays.asList(persons));
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.TagGroup;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexSnapshotTest {
+
+    private static final Person BUYER = new PersonBuilder().withName("Alice Buyer").withPhone("11111111")
+            .withEmail("buyer@example.com").withRoles("Buyer").withStatus(Status.PENDING).build();
+    private static final Person SELLER = new PersonBuilder().withName("Bob Seller Bob").withPhone("22222222")
+            .withEmail("seller@example.com").withRoles("seller", "BUYER").withStatus(Status.COMPLETED)
+            .withTags("location.north").build();
+    private static final Person NO_ATTRIBUTES = new PersonBuilder().withName("alice bob").withPhone("33333333")
+            .withEmail("none@example.com").withoutStatus().build();
+    private static final List<Person> PERSONS = Arrays.asList(BUYER, SELLER, NO_ATTRIBUTES);
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonIndexSnapshot.of(null));
+    }
+
+    @Test
+    public void of_persons_indexesByPosition() {
+        PersonIndexSnapshot indexes = PersonIndexSnapshot.of(PERSONS);
+        assertEquals(3, indexes.getPersonCount());
+        assertArrayEquals(new int[] {0, 2}, indexes.getNameTokenPositions().get("alice"));
+        // A word repeated in a name is indexed once
+        assertArrayEquals(new int[] {1, 2}, indexes.getNameTokenPositions().get("bob"));
+        BitSet buyers = new BitSet();
+        buyers.set(0, 2);
+        assertEquals(buyers, indexes.getRoleBits().get("buyer"));
+        assertEquals(1, indexes.getStatusBits().get(Status.COMPLETED).nextSetBit(0));
+        assertEquals(1, indexes.getTagGroupBits().get(TagGroup.of("location")).nextSetBit(0));
+    }
+
+    @Test
+    public void restoredIndexes_sameAsBuiltIndexes() {
+        PersonIndexSnapshot indexes = PersonIndexSnapshot.of(PERSONS);
+
+        NameTokenIndex builtNames = new NameTokenIndex();
+        builtNames.setPersons(PERSONS);
+        NameTokenIndex restoredNames = new NameTokenIndex();
+        restoredNames.setPersons(PERSONS, indexes);
+        for (String keyword : List.of("alice", "BOB", "seller", "carol")) {
+            assertEquals(builtNames.getPersonsMatchingAny(List.of(keyword)),
+                    restoredNames.getPersonsMatchingAny(List.of(keyword)));
+        }
+
+        FilterBitmapIndex builtFilter = new FilterBitmapIndex();
+        builtFilter.setPersons(PERSONS);
+        FilterBitmapIndex restoredFilter = new FilterBitmapIndex();
+        restoredFilter.setPersons(PERSONS, indexes);
+        Set<Role> roles = Set.of(Role.of("buyer"));
+        Set<Status> statuses = Set.of(Status.COMPLETED);
+        Set<TagGroup> tagGroups = Set.of(TagGroup.of("location"));
+        assertEquals(builtFilter.getPersonsMatchingAny(roles, Set.of(), Set.of()),
+                restoredFilter.getPersonsMatchingAny(roles, Set.of(), Set.of()));
+        assertEquals(builtFilter.getPersonsMatchingAny(Set.of(), statuses, tagGroups),
+                restoredFilter.getPersonsMatchingAny(Set.of(), statuses, tagGroups));
+
+        PersonStatistics builtStatistics = new PersonStatistics();
+        builtStatistics.setPersons(PERSONS);
+        PersonStatistics restoredStatistics = new PersonStatistics();
+        restoredStatistics.setPersons(PERSONS, indexes);
+        assertEquals(builtStatistics.getTotalCount(), restoredStatistics.getTotalCount());
+        assertEquals(builtStatistics.getNoStatusCount(), restoredStatistics.getNoStatusCount());
+        assertEquals(builtStatistics.getRoleCounts(), restoredStatistics.getRoleCounts());
+        assertEquals(builtStatistics.getTagGroupCounts(), restoredStatistics.getTagGroupCounts());
+    }
+
+    @Test
+    public void restoredFilterIndex_afterRemoval_updated() {
+        FilterBitmapIndex index = new FilterBitmapIndex();
+        index.setPersons(PERSONS, PersonIndexSnapshot.of(PERSONS));
+        index.remove(BUYER);
+        assertEquals(Set.of(SELLER), index.getPersonsMatchingAny(Set.of(Role.of("buyer")), Set.of(), Set.of()));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.TagGroup;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonStatisticsTest {
+
+    private static final TagGroup LOCATION = new TagGroup("location");
+
+    private final PersonStatistics statistics = new PersonStatistics();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> statistics.add(null));
+    }
+
+    @Test
+    public void add_persons_countsStatusesRolesAndTagGroups() {
+        statistics.add(new PersonBuilder().withStatus(Status.PENDING).withRoles("Buyer")
+                .withTags("location.north", "location.south").build());
+        statistics.add(new PersonBuilder().withRoles("buyer", "seller").withTags("location.north").build());
+
+        assertEquals(2, statistics.getTotalCount());
+        assertEquals(1, statistics.getStatusCount(Status.PENDING));
+        assertEquals(0, statistics.getStatusCount(Status.COMPLETED));
+        assertEquals(1, statistics.getNoStatusCount());
+        assertEquals(Integer.valueOf(2), statistics.getRoleCounts().get("buyer"));
+        assertEquals(Integer.valueOf(1), statistics.getRoleCounts().get("seller"));
+        assertEquals(Collections.singletonMap(LOCATION, 2), statistics.getTagGroupCounts());
+    }
+
+    @Test
+    public void remove_countedPerson_dropsEmptyGroups() {
+        Person person = new PersonBuilder().withStatus(Status.COMPLETED).withRoles("seller")
+                .withTags("location.north").build();
+        statistics.add(person);
+        statistics.remove(person);
+
+        assertEquals(0, statistics.getTotalCount());
+        assertEquals(0, statistics.getStatusCount(Status.COMPLETED));
+        assertTrue(statistics.getRoleCounts().isEmpty());
+        assertTrue(statistics.getTagGroupCounts().isEmpty());
+    }
+
+    @Test
+    public void setPersons_replacesAllCounts() {
+        statistics.add(new PersonBuilder().withRoles("seller").build());
+        statistics.setPersons(Arrays.asList(new PersonBuilder().withStatus(Status.PENDING).build()));
+
+        assertEquals(1, statistics.getTotalCount());
+        assertEquals(1, statistics.getStatusCount(Status.PENDING));
+        assertTrue(statistics.getRoleCounts().isEmpty());
+    }
+
+    @Test
+    public void getRoleCounts_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> statistics.getRoleCounts().put("buyer", 1));
+    }
+}
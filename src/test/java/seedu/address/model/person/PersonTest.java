@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -24,6 +25,14 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getTagsAndRoles_repeatedCalls_returnSameView() {
+        Person person = new PersonBuilder().withRoles("buyer").withTags("friends").build();
+        assertSame(person.getTags(), person.getTags());
+        assertSame(person.getRoles(), person.getRoles());
+        assertThrows(UnsupportedOperationException.class, () -> person.getRoles().clear());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
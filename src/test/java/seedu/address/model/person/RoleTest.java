@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +21,13 @@ public class RoleTest {
         assertThrows(IllegalArgumentException.class, () -> new Role(invalidRole));
     }
 
+    @Test
+    public void of_equalRoles_returnsSameInstance() {
+        Role role = Role.of("Buyer");
+        assertSame(role, Role.of("Buyer"));
+        assertNotSame(role, Role.of("buyer"));
+    }
+
     @Test
     public void isValidRole() {
         // null roll
@@ -2,13 +2,18 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -167,6 +172,86 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_releasesPhoneAndEmail() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.containsPhoneNumber(ALICE));
+        assertFalse(uniquePersonList.containsEmail(ALICE));
+    }
+
+    @Test
+    public void remove_equalPersonWithDifferentId_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE, aliceCopy);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(aliceCopy));
+    }
+
+    @Test
+    public void remove_afterEarlierPersonsRemoved_removesPersonById() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.remove(BENSON);
+
+        uniquePersonList.remove(DANIEL);
+        uniquePersonList.setPerson(CARL, BOB);
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_editedPersonHasIdOfAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person editedAlice = new Person(BENSON.getId(), BOB.getName(), BOB.getPhone(), BOB.getEmail(),
+                BOB.getAddress(), BOB.getRoles(), BOB.getStatus(), BOB.getTags());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicateIds_throwsDuplicatePersonException() {
+        Person bobWithAliceId = new Person(ALICE.getId(), BOB.getName(), BOB.getPhone(), BOB.getEmail(),
+                BOB.getAddress(), BOB.getRoles(), BOB.getStatus(), BOB.getTags());
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Arrays.asList(ALICE, bobWithAliceId)));
+    }
+
+    @Test
+    public void setPerson_phoneAndEmailChanged_releasesOldPhoneAndEmail() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        // the released phone number and email can be taken by another person
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_list_replacesPhoneAndEmailIndexes() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.containsPhoneNumber(BOB));
+        assertTrue(uniquePersonList.containsEmail(BOB));
+    }
+
+    @Test
+    public void add_manyPersons_duplicateChecksDoNotScanList() {
+        // A linear scan per add makes this quadratic (~5 * 10^9 comparisons), far beyond the timeout.
+        int count = 100_000;
+        assertTimeout(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < count; i++) {
+                uniquePersonList.add(new PersonBuilder()
+                        .withPhone(String.valueOf(10_000_000 + i))
+                        .withEmail("person" + i + "@example.com")
+                        .build());
+            }
+        });
+        assertTrue(uniquePersonList.containsPhoneNumber(new PersonBuilder().withPhone("10000000").build()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -220,6 +305,25 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicateEmail));
     }
 
+    @Test
+    public void setPersons_listWithSeveralConflicts_reportsAllConflicts() {
+        Person personWithDuplicatePhone = new PersonBuilder(ALICE)
+                .withEmail("different@example.com")
+                .build();
+        Person personWithDuplicateEmail = new PersonBuilder(BOB)
+                .withPhone("99999999")
+                .build();
+        List<Person> persons = Arrays.asList(ALICE, BOB, personWithDuplicatePhone, personWithDuplicateEmail);
+
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(
+                "Person #3 has the same phone number as person #1 (" + ALICE.getPhone() + ")",
+                "Person #4 has the same email as person #2 (" + BOB.getEmail() + ")")).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () -> uniquePersonList.setPersons(persons));
+
+        // the list is left untouched when the batch is rejected
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
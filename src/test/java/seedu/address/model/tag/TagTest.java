@@ -3,6 +3,7 @@ package seedu.address.model.tag;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -24,6 +25,21 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTag));
     }
 
+    @Test
+    public void of_invalidTagFormat_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("propertyType!HDB"));
+    }
+
+    @Test
+    public void of_equalTags_returnsSameInstance() {
+        Tag tag = Tag.of("propertyType.HDB");
+
+        assertSame(tag, Tag.of("propertyType.HDB"));
+        assertSame(tag, Tag.of("PROPERTYTYPE.HDB"));
+        assertSame(tag.getGroup(), Tag.of("propertyType.Condo").getGroup());
+        assertSame(tag.getGroup(), TagGroup.of("propertytype"));
+    }
+
     @Test
     public void isValidTagFormat_null_throwsNullPointerException() {
         // null tag name
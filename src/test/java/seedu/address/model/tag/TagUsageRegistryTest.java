@@ -0,0 +1,73 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagUsageRegistryTest {
+
+    private static final TagGroup LOCATION = new TagGroup("location");
+    private static final Tag NORTH = new Tag("location.north");
+    private static final Tag SOUTH = new Tag("location.south");
+
+    private final TagUsageRegistry registry = new TagUsageRegistry();
+
+    @Test
+    public void isInUse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.isInUse(null));
+    }
+
+    @Test
+    public void add_groupedTags_countsTagsAndGroups() {
+        registry.add(new PersonBuilder().withTags("location.north", "friends").build());
+        registry.add(new PersonBuilder().withTags("location.north", "location.south").build());
+
+        assertTrue(registry.isInUse(LOCATION));
+        assertEquals(2, registry.getUsageCount(NORTH));
+        assertEquals(1, registry.getUsageCount(SOUTH));
+        assertEquals(1, registry.getUsageCount(new Tag("friends")));
+    }
+
+    @Test
+    public void remove_lastReference_groupNoLongerInUse() {
+        Person first = new PersonBuilder().withTags("location.north").build();
+        Person second = new PersonBuilder().withTags("location.south").build();
+        registry.add(first);
+        registry.add(second);
+
+        registry.remove(first);
+        assertTrue(registry.isInUse(LOCATION));
+        assertEquals(0, registry.getUsageCount(NORTH));
+        assertFalse(registry.getTagCounts().containsKey(NORTH));
+
+        registry.remove(second);
+        assertFalse(registry.isInUse(LOCATION));
+        assertTrue(registry.getTagCounts().isEmpty());
+    }
+
+    @Test
+    public void setPersons_replacesAllCounts() {
+        registry.add(new PersonBuilder().withTags("location.north").build());
+        registry.setPersons(Collections.singletonList(new PersonBuilder().withTags("friends").build()));
+
+        assertFalse(registry.isInUse(LOCATION));
+        assertEquals(Collections.singletonMap(new Tag("friends"), 1), registry.getTagCounts());
+
+        registry.setPersons(Arrays.asList());
+        assertTrue(registry.getTagCounts().isEmpty());
+    }
+
+    @Test
+    public void getTagCounts_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> registry.getTagCounts().put(NORTH, 1));
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundSaverTest {
+
+    private static final long LONG_DEBOUNCE_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void requestSave_burst_onlyLatestWritten() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressbook.json"));
+        BackgroundSaver saver = new BackgroundSaver(storage, LONG_DEBOUNCE_MILLIS);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.requestSave(new AddressBookSnapshot(addressBook));
+        addressBook.addPerson(HOON);
+        AddressBookSnapshot latest = new AddressBookSnapshot(addressBook);
+        saver.requestSave(latest);
+        assertTrue(storage.saved.isEmpty());
+
+        saver.flush();
+        assertEquals(List.of(latest), storage.saved);
+
+        // Nothing is left to write
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void requestSave_debounceElapsed_writtenInBackground() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressbook.json"));
+        BackgroundSaver saver = new BackgroundSaver(storage, 0);
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        saver.requestSave(snapshot);
+
+        assertTrue(storage.written.await(5, TimeUnit.SECONDS));
+        assertSame(snapshot, storage.saved.get(0));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(storage.getAddressBookFilePath()).readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_writeFails_failureHandlerTold() throws Exception {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage, 0);
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        saver.setFailureHandler(reported::complete);
+
+        saver.requestSave(new AddressBookSnapshot(getTypicalAddressBook()));
+        assertSame(failure, reported.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void close_pendingSave_writtenAndStopped() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressbook.json"));
+        BackgroundSaver saver = new BackgroundSaver(storage, LONG_DEBOUNCE_MILLIS);
+        saver.requestSave(new AddressBookSnapshot(getTypicalAddressBook()));
+
+        saver.close();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void requestSave_null_throwsNullPointerException() {
+        BackgroundSaver saver = new BackgroundSaver(new RecordingStorage(testFolder.resolve("a.json")), 0);
+        assertThrows(NullPointerException.class, () -> saver.requestSave(null));
+    }
+
+    /**
+     * A storage recording the address books it saves.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        private final CountDownLatch written = new CountDownLatch(1);
+
+        RecordingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            super.saveAddressBook(addressBook, filePath);
+            saved.add(addressBook);
+            written.countDown();
+        }
+    }
+}
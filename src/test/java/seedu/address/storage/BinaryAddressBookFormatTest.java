@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class BinaryAddressBookFormatTest {
+
+    @Test
+    public void readString_writtenString_sameString() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(write("Alice", "Bob"));
+        assertEquals("Alice", BinaryAddressBookFormat.readString(buffer));
+        BinaryAddressBookFormat.skipString(buffer);
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    public void readString_negativeLength_throwsIOException() {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).putInt(0, -1);
+        assertThrows(IOException.class, () -> BinaryAddressBookFormat.readString(buffer));
+        assertThrows(IOException.class, () -> BinaryAddressBookFormat.skipString(buffer.position(0)));
+    }
+
+    @Test
+    public void readString_lengthPastEnd_throwsIOException() {
+        // A corrupted length far larger than the buffer is not allocated
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + 3).putInt(0, Integer.MAX_VALUE);
+        assertThrows(IOException.class, () -> BinaryAddressBookFormat.readString(buffer));
+        assertThrows(IOException.class, () -> BinaryAddressBookFormat.skipString(buffer.position(0)));
+    }
+
+    private static byte[] write(String... values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (String value : values) {
+            BinaryAddressBookFormat.writeString(out, value);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GROUP_PROPERTY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.PersonIndexSnapshot;
+import seedu.address.model.tag.TagGroup;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSnapshotFilePath_replacesExtension() {
+        assertEquals(Path.of("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getSnapshotFilePath(Path.of("data", "addressbook.json")));
+        assertEquals(Path.of("addressbook.bin"), BinaryAddressBookStorage.getSnapshotFilePath(Path.of("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        original.addTagGroup(new TagGroup(VALID_TAG_GROUP_PROPERTY));
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getTagGroups(), readBack.getTagGroups());
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.getPersonList().get(i).getId());
+        }
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_emptyAddressBook_success() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedByte_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path filePath = storage.getAddressBookFilePath();
+
+        byte[] content = Files.readAllBytes(filePath);
+        // Flips the case of the first letter of a name, which still reads as a valid name
+        String text = new String(content, StandardCharsets.ISO_8859_1);
+        content[text.indexOf(ALICE.getName().fullName)] ^= 0x20;
+        Files.write(filePath, content);
+        String expectedMessage = new IOException(BinaryAddressBookReader.MESSAGE_CHECKSUM_MISMATCH).toString();
+        assertThrows(DataLoadingException.class, expectedMessage, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncated_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path filePath = storage.getAddressBookFilePath();
+
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 1));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        Files.writeString(storage.getAddressBookFilePath(), "{\"persons\":[]}");
+        assertThrows(DataLoadingException.class,
+                new IOException(BinaryAddressBookReader.MESSAGE_NOT_A_SNAPSHOT).toString(), storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(BinaryAddressBookFormat.MAGIC);
+        data.writeInt(BinaryAddressBookFormat.FORMAT_VERSION + 1);
+        Files.write(storage.getAddressBookFilePath(), bytes.toByteArray());
+
+        String expectedMessage = new IOException(String.format(BinaryAddressBookReader.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookFormat.FORMAT_VERSION + 1)).toString();
+        assertThrows(DataLoadingException.class, expectedMessage, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_corruptedWithBackup_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, new AtomicFileWriter(true), false,
+                false);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(new AddressBook());
+        Files.write(filePath, ByteBuffer.allocate(3).array());
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_indexesPersisted_indexFileReusedOnLoad() throws Exception {
+        BinaryAddressBookStorage storage = createIndexedStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Path filePath = storage.getAddressBookFilePath();
+        Path indexFilePath = PersonIndexFile.getIndexFilePath(filePath);
+        assertTrue(Files.exists(indexFilePath));
+
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        assertEquals(addressBook, readBack);
+        assertEquals(Set.of(ALICE), readBack.findPersonsByName(List.of("alice")));
+
+        // An index file matching the snapshot is used as it is, so an index file with other content shows in lookups
+        PersonIndexSnapshot otherIndexes = new PersonIndexSnapshot(addressBook.getPersonList().size(),
+                Map.of("alice", new int[] {1}), Map.of(), Map.of(), Map.of());
+        new AtomicFileWriter(false).write(indexFilePath, out -> PersonIndexFile.write(otherIndexes,
+                PersonIndexFile.readSnapshotChecksum(filePath), Files.size(filePath), out));
+        readBack = (AddressBook) storage.readAddressBook().get();
+        assertEquals(addressBook, readBack);
+        assertEquals(Set.of(BENSON), readBack.findPersonsByName(List.of("alice")));
+    }
+
+    @Test
+    public void readAddressBook_staleIndexFile_indexesBuiltAndIndexFileRebuilt() throws Exception {
+        BinaryAddressBookStorage storage = createIndexedStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path filePath = storage.getAddressBookFilePath();
+
+        // The snapshot is replaced without its index file
+        AddressBook changed = getTypicalAddressBook();
+        changed.removePerson(ALICE);
+        createStorage().saveAddressBook(changed);
+
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        assertEquals(changed, readBack);
+        assertTrue(readBack.findPersonsByName(List.of("alice")).isEmpty());
+
+        long snapshotChecksum = PersonIndexFile.readSnapshotChecksum(filePath);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!isIndexFileOf(filePath, snapshotChecksum)) {
+            assertTrue(System.nanoTime() < deadline, "The index file was not rebuilt");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void readAddressBook_corruptedIndexFile_indexesBuilt() throws Exception {
+        BinaryAddressBookStorage storage = createIndexedStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path indexFilePath = PersonIndexFile.getIndexFilePath(storage.getAddressBookFilePath());
+        byte[] content = Files.readAllBytes(indexFilePath);
+        content[content.length / 2] ^= 0x01;
+        Files.write(indexFilePath, content);
+
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), readBack);
+        assertEquals(Set.of(BENSON), readBack.findPersonsByName(List.of("benson")));
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws IOException {
+        BinaryAddressBookStorage storage = createStorage();
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"),
+                new StorageSettings().withCompactJsonEnabled(true));
+        storage.saveAddressBook(getTypicalAddressBook());
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(storage.getAddressBookFilePath()) < Files.size(jsonStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveAddressBook(null));
+    }
+
+    private BinaryAddressBookStorage createIndexedStorage() {
+        return new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"), new AtomicFileWriter(false), false,
+                true);
+    }
+
+    private static boolean isIndexFileOf(Path filePath, long snapshotChecksum) throws IOException {
+        try (InputStream in = Files.newInputStream(PersonIndexFile.getIndexFilePath(filePath))) {
+            PersonIndexFile.read(in, snapshotChecksum, Files.size(filePath));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private BinaryAddressBookStorage createStorage() {
+        return new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"), new StorageSettings());
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GROUP_PROPERTY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagGroup;
+import seedu.address.testutil.PersonBuilder;
+
+public class ChunkedBackupStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBackupDirectoryPath_backupDirectoryNextToDataFile() {
+        assertEquals(Path.of("data", "addressbook.backups"),
+                ChunkedBackupStorage.getBackupDirectoryPath(Path.of("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readBackup_noBackups_emptyResult() throws Exception {
+        ChunkedBackupStorage storage = createStorage();
+        assertFalse(storage.readBackup(1).isPresent());
+        assertFalse(storage.getLatestBackupTime().isPresent());
+        assertTrue(storage.getBackupGenerations().isEmpty());
+    }
+
+    @Test
+    public void backUpAndReadBackup_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addTagGroup(new TagGroup(VALID_TAG_GROUP_PROPERTY));
+        BackupGeneration backup = createStorage().backUpAddressBook(original);
+        assertEquals(1, backup.getGeneration());
+        assertEquals(original.getPersonList().size(), backup.getPersonCount());
+        assertEquals(original.getPersonList().size(), backup.getNewChunkCount());
+
+        // read by another instance, so that every chunk is read from disk
+        ChunkedBackupStorage storage = createStorage();
+        ReadOnlyAddressBook readBack = storage.readBackup(1).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getTagGroups(), readBack.getTagGroups());
+        assertEquals(backup.getCreatedAt().toEpochMilli(), storage.getLatestBackupTime().get().toEpochMilli());
+    }
+
+    @Test
+    public void backUpAddressBook_unchangedPersons_notStoredAgain() throws Exception {
+        ChunkedBackupStorage storage = createStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.backUpAddressBook(addressBook);
+        long chunkCount = countChunks();
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Changed address").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        BackupGeneration backup = storage.backUpAddressBook(addressBook);
+        assertEquals(2, backup.getGeneration());
+        assertEquals(1, backup.getNewChunkCount());
+        assertEquals(chunkCount + 1, countChunks());
+
+        // persons not seen by this instance are serialized, but chunks already stored are not written again
+        assertEquals(0, createStorage().backUpAddressBook(addressBook).getNewChunkCount());
+        assertEquals(List.of(1L, 2L, 3L), storage.getBackupGenerations());
+
+        assertEquals(ALICE, createStorage().readBackup(1).get().getPersonList().get(0));
+        assertEquals(editedAlice, createStorage().readBackup(2).get().getPersonList().get(0));
+    }
+
+    @Test
+    public void pruneBackups_oldGenerations_unreferencedChunksDeleted() throws Exception {
+        ChunkedBackupStorage storage = createStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.backUpAddressBook(addressBook);
+        long chunkCount = countChunks();
+        addressBook.removePerson(BENSON);
+        storage.backUpAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress("Changed address").build());
+        storage.backUpAddressBook(addressBook);
+        assertEquals(chunkCount + 1, countChunks());
+
+        assertEquals(0, storage.pruneBackups(3));
+        assertEquals(2, storage.pruneBackups(1));
+        assertEquals(List.of(3L), storage.getBackupGenerations());
+        assertEquals(addressBook.getPersonList().size(), countChunks());
+        assertEquals(addressBook, new AddressBook(createStorage().readBackup(3).get()));
+
+        // a pruned chunk is stored again when it is backed up again
+        addressBook.addPerson(BENSON);
+        assertEquals(1, storage.backUpAddressBook(addressBook).getNewChunkCount());
+        assertEquals(addressBook, new AddressBook(createStorage().readBackup(4).get()));
+    }
+
+    @Test
+    public void readBackup_corruptedChunk_throwsDataLoadingException() throws Exception {
+        createStorage().backUpAddressBook(getTypicalAddressBook());
+        try (Stream<Path> files = Files.walk(testFolder.resolve("chunks"))) {
+            Path chunk = files.filter(Files::isRegularFile).findFirst().get();
+            String content = Files.readString(chunk, StandardCharsets.UTF_8);
+            Files.writeString(chunk, content.replaceFirst("\"name\":\"", "\"name\":\"X"), StandardCharsets.UTF_8);
+        }
+        assertThrows(DataLoadingException.class, () -> createStorage().readBackup(1));
+    }
+
+    @Test
+    public void readBackup_missingChunk_throwsDataLoadingException() throws Exception {
+        createStorage().backUpAddressBook(getTypicalAddressBook());
+        try (Stream<Path> files = Files.walk(testFolder.resolve("chunks"))) {
+            Files.delete(files.filter(Files::isRegularFile).findFirst().get());
+        }
+        assertThrows(DataLoadingException.class, () -> createStorage().readBackup(1));
+    }
+
+    private ChunkedBackupStorage createStorage() {
+        return new ChunkedBackupStorage(testFolder);
+    }
+
+    private long countChunks() throws Exception {
+        try (Stream<Path> files = Files.walk(testFolder.resolve("chunks"))) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
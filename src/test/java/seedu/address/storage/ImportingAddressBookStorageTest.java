@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.model.AddressBook;
+
+public class ImportingAddressBookStorageTest {
+
+    private static final FileTime EARLIER = FileTime.from(Instant.parse("2025-01-01T00:00:00Z"));
+    private static final FileTime LATER = FileTime.from(Instant.parse("2025-01-02T00:00:00Z"));
+
+    @TempDir
+    public Path testFolder;
+
+    private final StorageSettings settings = new StorageSettings();
+
+    @Test
+    public void readAddressBook_onlyImportedFileExists_imported() throws Exception {
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                testFolder.resolve("addressbook.bin"), settings);
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        ImportingAddressBookStorage storage = new ImportingAddressBookStorage(binaryStorage, jsonStorage);
+        assertEquals(binaryStorage.getAddressBookFilePath(), storage.getAddressBookFilePath());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        // The imported data is saved in the format of the storage
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_importedFileNewer_imported() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                testFolder.resolve("addressbook.bin"), settings);
+        AddressBook newer = getTypicalAddressBook();
+        newer.addPerson(HOON);
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        binaryStorage.saveAddressBook(newer);
+        Files.setLastModifiedTime(jsonStorage.getAddressBookFilePath(), EARLIER);
+        Files.setLastModifiedTime(binaryStorage.getAddressBookFilePath(), LATER);
+
+        ImportingAddressBookStorage storage = new ImportingAddressBookStorage(jsonStorage, binaryStorage);
+        assertEquals(newer, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_dataFilePathGiven_imported() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                testFolder.resolve("addressbook.bin"), settings);
+        binaryStorage.saveAddressBook(getTypicalAddressBook());
+
+        ImportingAddressBookStorage storage = new ImportingAddressBookStorage(jsonStorage, binaryStorage);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(storage.readAddressBook(storage.getAddressBookFilePath()).get()));
+    }
+
+    @Test
+    public void readAddressBook_importedFileOlder_notImported() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                testFolder.resolve("addressbook.bin"), settings);
+        AddressBook older = getTypicalAddressBook();
+        older.addPerson(HOON);
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        binaryStorage.saveAddressBook(older);
+        Files.setLastModifiedTime(binaryStorage.getAddressBookFilePath(), EARLIER);
+        Files.setLastModifiedTime(jsonStorage.getAddressBookFilePath(), LATER);
+
+        ImportingAddressBookStorage storage = new ImportingAddressBookStorage(jsonStorage, binaryStorage);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_severalImportedFilesNewer_newestImported() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                testFolder.resolve("addressbook.bin"), settings);
+        SegmentedAddressBookStorage segmentedStorage = new SegmentedAddressBookStorage(
+                SegmentedAddressBookStorage.getManifestFilePath(testFolder.resolve("addressbook.json")), settings);
+        AddressBook newest = getTypicalAddressBook();
+        newest.addPerson(HOON);
+        binaryStorage.saveAddressBook(getTypicalAddressBook());
+        segmentedStorage.saveAddressBook(newest);
+        Files.setLastModifiedTime(binaryStorage.getAddressBookFilePath(), EARLIER);
+        Files.setLastModifiedTime(segmentedStorage.getAddressBookFilePath(), LATER);
+
+        ImportingAddressBookStorage storage = new ImportingAddressBookStorage(jsonStorage, binaryStorage,
+                segmentedStorage);
+        assertEquals(newest, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noFiles_emptyResult() throws Exception {
+        ImportingAddressBookStorage storage = new ImportingAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"), settings));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+}
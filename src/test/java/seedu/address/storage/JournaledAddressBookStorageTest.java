@@ -0,0 +1,290 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.JournalSyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.TagGroup;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final StorageSettings JOURNALED =
+            new StorageSettings().withJournal(true, JournalSyncPolicy.ALWAYS, 1000);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void getJournalFilePath() {
+        assertEquals(testFolder.resolve("addressbook.json.journal"), journalPath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath, JOURNALED)
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath, JOURNALED).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNALED);
+
+        // First save writes the data file
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        String snapshot = Files.readString(filePath);
+
+        // Later saves only append the changes
+        original.addPerson(HOON);
+        original.setPerson(BENSON, withPhone(BENSON, "99998888"));
+        original.removePerson(ALICE);
+        original.addTagGroup(TagGroup.of("location"));
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+
+        // Saving without changes writes nothing
+        storage.saveAddressBook(original);
+        assertEquals(4, Files.readAllLines(journalPath).size());
+
+        original.removeTagGroup(TagGroup.of("location"));
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(6, Files.readAllLines(journalPath).size());
+
+        // A new storage replays the journal on top of the data file
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath, JOURNALED).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getTagGroups(), readBack.getTagGroups());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsOnlyChanges() throws Exception {
+        new JournaledAddressBookStorage(filePath, JOURNALED).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNALED);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingPersonsWithoutIds_rewritesDataFile() throws Exception {
+        Files.writeString(filePath, "{\"persons\":[{\"name\":\"Alice Pauline\",\"phone\":\"94351253\","
+                + "\"email\":\"alice@example.com\",\"address\":\"123, Jurong West Ave 6\"}]}");
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNALED);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+
+        // A journal would refer to the new id of Alice, which the data file does not have
+        assertFalse(Files.exists(journalPath));
+        ReadOnlyAddressBook readAgain = new JournaledAddressBookStorage(filePath, JOURNALED).readAddressBook().get();
+        assertEquals(readBack.getPersonList().get(0).getId(), readAgain.getPersonList().get(0).getId());
+
+        // Once the ids are saved, changes are journaled again
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void saveAddressBook_editedPerson_keepsId() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNALED);
+        storage.saveAddressBook(original);
+
+        Person editedBenson = withPhone(BENSON, "99998888");
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath, JOURNALED).readAddressBook().get();
+        Person readBenson = readBack.getPersonList().stream()
+                .filter(person -> person.getId() == BENSON.getId()).findFirst().get();
+        assertEquals(editedBenson, readBenson);
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_rewritesDataFile() throws Exception {
+        StorageSettings settings = new StorageSettings().withJournal(true, JournalSyncPolicy.NEVER, 2);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, settings);
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_skipped() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNALED);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Simulates a crash while the record for IDA was being appended
+        Files.writeString(journalPath, "{\"op\":\"PUT_PERSON\",\"person\":{\"name\":\"Ida",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath, JOURNALED);
+        AddressBook readBack = new AddressBook(restarted.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // The next save rewrites the data file instead of appending after the incomplete record
+        readBack.addPerson(IDA);
+        restarted.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(readBack, new AddressBook(restarted.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        new JournaledAddressBookStorage(filePath, JOURNALED).saveAddressBook(getTypicalAddressBook());
+        Files.write(journalPath, List.of("not a record", "{\"op\":\"DELETE_PERSON\",\"id\":1}"));
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath, JOURNALED)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_recordMissingField_throwsDataLoadingException() throws Exception {
+        new JournaledAddressBookStorage(filePath, JOURNALED).saveAddressBook(getTypicalAddressBook());
+        Files.write(journalPath, List.of("{\"op\":\"DELETE_PERSON\"}"));
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath, JOURNALED)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalAlreadyInDataFile_sameResult() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNALED);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // Simulates a crash after a checkpoint rewrote the data file but before the journal was deleted
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertTrue(Files.exists(journalPath));
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath, JOURNALED).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_journalAndCorruptDataFile_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNALED);
+        storage.saveAddressBook(original);
+        Files.copy(filePath, AtomicFileWriter.getBackupFilePath(filePath));
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(filePath, "not json");
+
+        // The journal follows on from the data file, not from its older backup
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath, JOURNALED)
+                .readAddressBook());
+        assertTrue(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingBackup_rewritesDataFile() throws Exception {
+        new JournaledAddressBookStorage(filePath, JOURNALED).saveAddressBook(getTypicalAddressBook());
+        Files.copy(filePath, AtomicFileWriter.getBackupFilePath(filePath));
+        Files.writeString(filePath, "not json");
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNALED);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), readBack);
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+
+        // A journal would have to be replayed onto the backup, as the data file still could not be loaded
+        assertFalse(Files.exists(journalPath));
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath, JOURNALED)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesDataFileOnly() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, JOURNALED);
+        storage.saveAddressBook(original, otherFilePath);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath, JOURNALED)
+                .saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath, JOURNALED)
+                .saveAddressBook(new AddressBook(), null));
+    }
+
+    /**
+     * Returns {@code person} with its phone replaced by {@code phone}, keeping its id as an edit does.
+     */
+    private static Person withPhone(Person person, String phone) {
+        return new Person(person.getId(), person.getName(), new Phone(phone), person.getEmail(), person.getAddress(),
+                person.getRoles(), person.getStatus(), person.getTags());
+    }
+}
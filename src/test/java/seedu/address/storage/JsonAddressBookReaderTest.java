@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GROUP_LOCATION;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GROUP_PROPERTY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.TagGroup;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = read(TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json"));
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_typicalTagGroupsFile_success() throws Exception {
+        AddressBook addressBookFromFile = read(TEST_DATA_FOLDER.resolve("typicalTagGroupsAddressBook.json"));
+        assertTrue(addressBookFromFile.hasTagGroup(new TagGroup(VALID_TAG_GROUP_PROPERTY)));
+        assertTrue(addressBookFromFile.hasTagGroup(new TagGroup(VALID_TAG_GROUP_LOCATION)));
+        assertEquals(2, addressBookFromFile.getTagGroups().size());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                read(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON
+                + "\nPerson #2 has the same phone number as person #1 (94351253)", () ->
+                read(TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_duplicateTagGroups_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_TAG_GROUP, () ->
+                read(TEST_DATA_FOLDER.resolve("duplicateTagGroupAddressBook.json")));
+    }
+
+    @Test
+    public void read_unknownFieldsAndNoTagGroups_success() throws Exception {
+        AddressBook addressBook = read("{\"version\": {\"major\": 2}, \"persons\": [], \"tagGroups\": null}");
+        assertTrue(addressBook.getPersonList().isEmpty());
+        assertTrue(addressBook.getTagGroups().isEmpty());
+    }
+
+    @Test
+    public void read_nullPerson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(JsonAddressBookReader.MESSAGE_NULL_ELEMENT,
+                "persons"), () -> read("{\"persons\": [null]}"));
+    }
+
+    @Test
+    public void read_invalidPersonBeforeNullPerson_invalidPersonReported() {
+        String invalidPerson = "{\"name\": \"Alice\", \"phone\": \"+651234\", \"email\": \"alice@example.com\", "
+                + "\"address\": \"Main Street\"}";
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                read("{\"persons\": [" + invalidPerson + ", null]}"));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"persons\": {}}"));
+        assertThrows(IOException.class, () -> read("{\"persons\": [{\"name\": \"Alice\""));
+    }
+
+    private AddressBook read(Path filePath) throws Exception {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return JsonAddressBookReader.read(in);
+        }
+    }
+
+    private AddressBook read(String json) throws Exception {
+        return JsonAddressBookReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
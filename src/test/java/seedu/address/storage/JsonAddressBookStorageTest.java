@@ -9,15 +9,24 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.CrashingFileWriter;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +95,80 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_crashAtRandomOffsets_previousAddressBookRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        edited.removePerson(ALICE);
+        int length = JsonUtil.toJsonString(new JsonSerializableAddressBook(edited))
+                .getBytes(StandardCharsets.UTF_8).length;
+
+        Random random = new Random(2103);
+        for (int i = 0; i < 50; i++) {
+            // The last round lets the whole content reach the temporary file before crashing
+            int crashOffset = i == 49 ? length : random.nextInt(length);
+            AtomicFileWriter crashingWriter = new CrashingFileWriter(true, crashOffset);
+            assertThrows(IOException.class, () -> new JsonAddressBookStorage(filePath, new StorageSettings(),
+                    crashingWriter).saveAddressBook(edited));
+            assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        }
+
+        new JsonAddressBookStorage(filePath, new StorageSettings().withBackupEnabled(true)).saveAddressBook(edited);
+        assertEquals(edited, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptFileWithBackup_backupRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath,
+                new StorageSettings().withBackupEnabled(true));
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        // Damaged by something other than a save
+        Files.writeString(filePath, "{\"persons\": [");
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        Files.delete(AtomicFileWriter.getBackupFilePath(filePath));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_gzipFileExtension_compressed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        try (GZIPInputStream in = new GZIPInputStream(Files.newInputStream(filePath))) {
+            assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(getTypicalAddressBook())),
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_gzipEnabled_compressedAndReadByContent() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath,
+                new StorageSettings().withGzipEnabled(true));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] content = Files.readAllBytes(filePath);
+        assertEquals(GZIPInputStream.GZIP_MAGIC, (content[0] & 0xff) | ((content[1] & 0xff) << 8));
+        // A storage that does not compress still reads the compressed file
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+
+        // A truncated compressed file cannot be read
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
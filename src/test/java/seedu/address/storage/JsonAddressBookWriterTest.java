@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GROUP_PROPERTY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.TagGroup;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void write_prettyPrinted_sameAsSerializableAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addTagGroup(new TagGroup(VALID_TAG_GROUP_PROPERTY));
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), write(addressBook, false));
+    }
+
+    @Test
+    public void write_compact_singleLineReadBack() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addTagGroup(new TagGroup(VALID_TAG_GROUP_PROPERTY));
+
+        String json = write(addressBook, true);
+        assertFalse(json.contains("\n"));
+        AddressBook readBack = JsonAddressBookReader.read(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(addressBook, readBack);
+        assertEquals(addressBook.getTagGroups(), readBack.getTagGroups());
+    }
+
+    @Test
+    public void write_emptyAddressBook_emptyLists() throws Exception {
+        String json = write(new AddressBook(), true);
+        assertEquals("{\"persons\":[],\"tagGroups\":[]}", json);
+    }
+
+    private String write(AddressBook addressBook, boolean isCompact) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(addressBook, out, isCompact);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.ArchivedPersonKeys;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonArchiveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getArchiveFilePath_archiveNextToDataFile() {
+        assertEquals(Path.of("data", "addressbook.archive.json.gz"),
+                JsonArchiveStorage.getArchiveFilePath(Path.of("data", "addressbook.json")));
+    }
+
+    @Test
+    public void read_missingArchive_emptyResult() throws Exception {
+        JsonArchiveStorage storage = createStorage();
+        assertEquals(ArchivedPersonKeys.EMPTY, storage.readArchivedPersonKeys());
+        assertTrue(storage.readArchivedPersons().isEmpty());
+    }
+
+    @Test
+    public void archivePersons_allInOrder_success() throws Exception {
+        JsonArchiveStorage storage = createStorage();
+        ArchivedPersonKeys keys = storage.archivePersons(List.of(ALICE, BENSON));
+        assertEquals(ArchivedPersonKeys.of(List.of(ALICE, BENSON)), keys);
+
+        // persons already archived are skipped
+        keys = storage.archivePersons(List.of(ALICE, CARL));
+        assertEquals(ArchivedPersonKeys.of(List.of(ALICE, BENSON, CARL)), keys);
+
+        JsonArchiveStorage readStorage = createStorage();
+        assertEquals(keys, readStorage.readArchivedPersonKeys());
+        assertEquals(List.of(ALICE, BENSON, CARL), readStorage.readArchivedPersons());
+        assertTrue(Files.exists(ArchiveKeyFile.getKeyFilePath(storage.getArchiveFilePath())));
+    }
+
+    @Test
+    public void archivePersons_idTaken_archivedWithNewId() throws Exception {
+        JsonArchiveStorage storage = createStorage();
+        storage.archivePersons(List.of(ALICE));
+        Person sameId = new Person(ALICE.getId(), BENSON.getName(), BENSON.getPhone(), BENSON.getEmail(),
+                BENSON.getAddress(), BENSON.getRoles(), BENSON.getStatus(), BENSON.getTags());
+        storage.archivePersons(List.of(sameId));
+
+        List<Person> archived = createStorage().readArchivedPersons();
+        assertEquals(List.of(ALICE, BENSON), archived);
+        assertFalse(archived.get(0).getId() == archived.get(1).getId());
+    }
+
+    @Test
+    public void archivePersons_phoneOrEmailArchived_throwsIOException() throws Exception {
+        JsonArchiveStorage storage = createStorage();
+        storage.archivePersons(List.of(ALICE));
+        Person samePhone = new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build();
+        Person sameEmail = new PersonBuilder(BENSON).withEmail(ALICE.getEmail().value).build();
+
+        assertThrows(IOException.class, String.format(JsonArchiveStorage.MESSAGE_PHONE_ARCHIVED,
+                samePhone.getName(), samePhone.getPhone()), () -> storage.archivePersons(List.of(CARL, samePhone)));
+        assertThrows(IOException.class, String.format(JsonArchiveStorage.MESSAGE_EMAIL_ARCHIVED,
+                sameEmail.getName(), sameEmail.getEmail()), () -> storage.archivePersons(List.of(sameEmail)));
+        assertEquals(List.of(ALICE), createStorage().readArchivedPersons());
+    }
+
+    @Test
+    public void readArchivedPersonKeys_staleOrCorruptedKeyFile_rebuiltFromArchive() throws Exception {
+        JsonArchiveStorage storage = createStorage();
+        ArchivedPersonKeys keys = storage.archivePersons(List.of(ALICE));
+        Path keyFilePath = ArchiveKeyFile.getKeyFilePath(storage.getArchiveFilePath());
+        byte[] aliceKeyFile = Files.readAllBytes(keyFilePath);
+        ArchivedPersonKeys newKeys = storage.archivePersons(List.of(BENSON));
+
+        // the key file of a shorter archive is stale
+        Files.write(keyFilePath, aliceKeyFile);
+        assertEquals(newKeys, createStorage().readArchivedPersonKeys());
+        assertEquals(newKeys, ArchiveKeyFile.read(Files.readAllBytes(keyFilePath),
+                Files.size(storage.getArchiveFilePath())));
+
+        byte[] corrupted = Files.readAllBytes(keyFilePath);
+        corrupted[corrupted.length - 12] ^= 1;
+        Files.write(keyFilePath, corrupted);
+        assertThrows(IOException.class, ArchiveKeyFile.MESSAGE_CHECKSUM_MISMATCH, () ->
+                ArchiveKeyFile.read(corrupted, Files.size(storage.getArchiveFilePath())));
+        assertEquals(newKeys, createStorage().readArchivedPersonKeys());
+        assertFalse(keys.equals(newKeys));
+    }
+
+    @Test
+    public void archiveStorage_corruptedArchive_notOverwritten() throws Exception {
+        JsonArchiveStorage storage = createStorage();
+        Files.writeString(storage.getArchiveFilePath(), "not an archive");
+        assertThrows(DataLoadingException.class, () -> storage.readArchivedPersons());
+        assertThrows(IOException.class, () -> storage.archivePersons(List.of(ALICE)));
+        assertEquals("not an archive", Files.readString(storage.getArchiveFilePath()));
+    }
+
+    private JsonArchiveStorage createStorage() {
+        return new JsonArchiveStorage(testFolder.resolve("addressbook.archive.json.gz"));
+    }
+}
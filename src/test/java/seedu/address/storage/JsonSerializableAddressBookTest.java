@@ -9,12 +9,14 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.TagGroup;
 import seedu.address.testutil.TypicalPersons;
 
@@ -24,6 +26,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path MIXED_IDS_FILE = TEST_DATA_FOLDER.resolve("mixedIdsAddressBook.json");
     private static final Path TYPICAL_TAG_GROUPS_FILE = TEST_DATA_FOLDER.resolve("typicalTagGroupsAddressBook.json");
     private static final Path DUPLICATE_TAG_GROUP_FILE = TEST_DATA_FOLDER.resolve("duplicateTagGroupAddressBook.json");
 
@@ -71,6 +74,19 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_personWithoutIdBeforeSavedIds_givenUnusedId() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(MIXED_IDS_FILE,
+                JsonSerializableAddressBook.class).get();
+        List<Person> persons = dataFromFile.toModelType().getPersonList();
+
+        assertEquals(3, persons.size());
+        assertEquals(1, persons.get(0).getId());
+        assertEquals(2, persons.get(2).getId());
+        // The id given is not one saved further on in the file
+        assertTrue(persons.get(1).getId() > 2);
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -82,8 +98,8 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON
+                + "\nPerson #2 has the same phone number as person #1 (94351253)", dataFromFile::toModelType);
     }
 
 }
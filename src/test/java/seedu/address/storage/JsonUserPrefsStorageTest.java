@@ -62,6 +62,13 @@ public class JsonUserPrefsStorageTest {
         assertEquals(new UserPrefs(), actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidStorageSettings_readUnchecked() throws DataLoadingException {
+        UserPrefs actual = readUserPrefs("InvalidStorageSettingsUserPref.json").get();
+        assertEquals(0, actual.getStorageSettings().getSegmentCount());
+        assertFalse(actual.getStorageSettings().isValid());
+    }
+
     @Test
     public void readUserPrefs_extraValuesInFile_extraValuesIgnored() throws DataLoadingException {
         UserPrefs expected = getTypicalUserPrefs();
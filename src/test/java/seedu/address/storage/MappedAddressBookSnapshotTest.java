@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GROUP_PROPERTY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagGroup;
+
+public class MappedAddressBookSnapshotTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_validSnapshot_personsDecodedOnAccess() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addTagGroup(new TagGroup(VALID_TAG_GROUP_PROPERTY));
+        MappedAddressBookSnapshot snapshot = MappedAddressBookSnapshot.open(writeSnapshot(addressBook), 2);
+
+        assertEquals(addressBook.getPersonList().size(), snapshot.getPersonList().size());
+        assertEquals(addressBook.getTagGroups(), snapshot.getTagGroups());
+        assertEquals(0, snapshot.getCachedPersonCount());
+
+        Person first = snapshot.getPersonList().get(0);
+        assertEquals(ALICE, first);
+        assertEquals(addressBook.getPersonList().get(0).getId(), first.getId());
+        assertEquals(1, snapshot.getCachedPersonCount());
+        assertTrue(first == snapshot.getPersonList().get(0));
+    }
+
+    @Test
+    public void getPersonList_allPersonsAccessed_cacheBounded() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        MappedAddressBookSnapshot snapshot = MappedAddressBookSnapshot.open(writeSnapshot(addressBook), 2);
+
+        assertEquals(addressBook, new AddressBook(snapshot));
+        assertEquals(List.copyOf(addressBook.getPersonList()), List.copyOf(snapshot.getPersonList()));
+        assertEquals(2, snapshot.getCachedPersonCount());
+    }
+
+    @Test
+    public void open_corruptedSnapshot_throwsIoException() throws Exception {
+        Path filePath = writeSnapshot(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 0x01;
+        Files.write(filePath, content);
+
+        String expectedMessage = BinaryAddressBookReader.MESSAGE_CHECKSUM_MISMATCH;
+        assertThrows(IOException.class, expectedMessage, () -> MappedAddressBookSnapshot.open(filePath, 2));
+    }
+
+    @Test
+    public void open_truncatedSnapshot_throwsIoException() throws Exception {
+        Path filePath = writeSnapshot(getTypicalAddressBook());
+        Files.write(filePath, new byte[] {0x41, 0x42, 0x4B, 0x53, 0, 0, 0, 1});
+        assertThrows(IOException.class, () -> MappedAddressBookSnapshot.open(filePath, 2));
+    }
+
+    @Test
+    public void readAddressBook_mappedStorage_sameAsStreamed() throws Exception {
+        Path filePath = writeSnapshot(getTypicalAddressBook());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, new AtomicFileWriter(false), true,
+                false);
+        assertTrue(storage.readAddressBook().get() instanceof MappedAddressBookSnapshot);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    private Path writeSnapshot(AddressBook addressBook) throws IOException {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath, new AtomicFileWriter(false), false, false)
+                .saveAddressBook(addressBook);
+        return filePath;
+    }
+}
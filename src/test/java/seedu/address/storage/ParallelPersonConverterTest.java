@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void shutDownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void finish_manyChunks_personsInOrder() throws Exception {
+        List<Person> expected = new ArrayList<>();
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool, 4, CHUNK_SIZE);
+        for (int i = 0; i < 100; i++) {
+            Person person = createPerson(i);
+            expected.add(person);
+            converter.add(new JsonAdaptedPerson(person));
+        }
+
+        List<Person> persons = converter.finish();
+        assertEquals(expected, persons);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), persons.get(i).getId());
+        }
+    }
+
+    @Test
+    public void finish_personsWithoutIdInManyChunks_givenUnusedIdsInOrder() throws Exception {
+        // Ids not handed out yet, so that the ids given to the persons saved without one would take them
+        long firstSavedId = Person.nextId() + 1;
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool, 4, CHUNK_SIZE);
+        for (int i = 0; i < 100; i++) {
+            Person person = createPerson(i);
+            converter.add(i % 3 == 0
+                    ? new JsonAdaptedPerson(person.getName().fullName, person.getPhone().value,
+                            person.getEmail().value, person.getAddress().value, null, null, null)
+                    : new JsonAdaptedPerson(firstSavedId + i, person.getName().fullName, person.getPhone().value,
+                            person.getEmail().value, person.getAddress().value, null, null, null));
+        }
+
+        List<Person> persons = converter.finish();
+        long previousId = firstSavedId + 98;
+        for (int i = 0; i < persons.size(); i += 3) {
+            assertTrue(persons.get(i).getId() > previousId);
+            previousId = persons.get(i).getId();
+        }
+    }
+
+    @Test
+    public void finish_noPersons_emptyList() throws Exception {
+        assertEquals(List.of(), new ParallelPersonConverter(pool, 4, CHUNK_SIZE).finish());
+    }
+
+    @Test
+    public void finish_invalidPersonsInSeveralChunks_firstInvalidPersonReported() throws Exception {
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool, 4, CHUNK_SIZE);
+        for (int i = 0; i < 40; i++) {
+            JsonAdaptedPerson person = new JsonAdaptedPerson(createPerson(i));
+            if (i == 7) {
+                person = new JsonAdaptedPerson(null, "Person 7", "+651234", "p7@example.com", "Street 7", null, null,
+                        null);
+            } else if (i == 25 || i == 38) {
+                // Invalid persons after the first, including one in the last chunk that is converted on this thread
+                person = new JsonAdaptedPerson(null, "Person " + i, "9000", "example.com", "Street", null, null, null);
+            }
+            addIgnoringEarlierFailure(converter, person);
+        }
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, converter::finish);
+        // The same failure is reported again
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, converter::finish);
+    }
+
+    @Test
+    public void finish_invalidPersonInLastChunk_reported() throws Exception {
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool, 4, CHUNK_SIZE);
+        converter.add(new JsonAdaptedPerson(createPerson(0)));
+        converter.add(new JsonAdaptedPerson(null, "Person 1", "9000", "example.com", "Street", null, null, null));
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, converter::finish);
+    }
+
+    private static void addIgnoringEarlierFailure(ParallelPersonConverter converter, JsonAdaptedPerson person) {
+        try {
+            converter.add(person);
+        } catch (IllegalValueException e) {
+            // Reported again by finish()
+        }
+    }
+
+    private static Person createPerson(int i) {
+        return new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                .withEmail("p" + i + "@example.com").build();
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GROUP_PROPERTY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagGroup;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int SEGMENT_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getManifestFilePath_segmentDirectoryNextToJsonFile() {
+        assertEquals(Path.of("data", "addressbook.segments", "manifest.json"),
+                SegmentedAddressBookStorage.getManifestFilePath(Path.of("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        original.addTagGroup(new TagGroup(VALID_TAG_GROUP_PROPERTY));
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = createStorage().readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getTagGroups(), readBack.getTagGroups());
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.getPersonList().get(i).getId());
+        }
+
+        // Modify data, overwrite exiting segments, and read back
+        original.addPerson(new PersonBuilder().withName("Zed Newcomer").build());
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsSegmentWritten() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        List<String> firstFiles = listSegmentFiles();
+        assertEquals(SEGMENT_COUNT, firstFiles.size());
+
+        Person editedBenson = new Person(BENSON.getId(), BENSON.getName(), BENSON.getPhone(), BENSON.getEmail(),
+                BENSON.getAddress(), BENSON.getRoles(), BENSON.getStatus(), BENSON.getTags());
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+
+        // Only the segment of the edited person is in a new file, and the file it replaced is deleted
+        List<String> secondFiles = listSegmentFiles();
+        assertEquals(SEGMENT_COUNT, secondFiles.size());
+        int editedSegment = SegmentedAddressBookStorage.getSegmentIndex(BENSON, SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            if (i == editedSegment) {
+                assertNotEquals(firstFiles.get(i), secondFiles.get(i));
+            } else {
+                assertEquals(firstFiles.get(i), secondFiles.get(i));
+            }
+        }
+
+        // Nothing changed, so no segment is written
+        storage.saveAddressBook(addressBook);
+        assertEquals(secondFiles, listSegmentFiles());
+    }
+
+    @Test
+    public void saveAddressBook_afterLoad_unchangedSegmentsNotWritten() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+        List<String> savedFiles = listSegmentFiles();
+
+        SegmentedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(new AddressBook(storage.readAddressBook().get()));
+        assertEquals(savedFiles, listSegmentFiles());
+    }
+
+    @Test
+    public void saveAddressBook_newStorageOverExistingSegments_referencedFilesNotReplaced() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+        List<String> firstFiles = listSegmentFiles();
+
+        // A storage that has not loaded the segments writes every segment under a newer generation
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.removePerson(ALICE);
+        createStorage().saveAddressBook(addressBook);
+        List<String> secondFiles = listSegmentFiles();
+        assertTrue(secondFiles.stream().noneMatch(firstFiles::contains));
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path segmentFile = getSegmentDirectory().resolve(listSegmentFiles().get(0));
+        Files.writeString(segmentFile, "{\"persons\": [{\"name\": \"Missing Fields\"}]}", StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(getSegmentDirectory().resolve(listSegmentFiles().get(SEGMENT_COUNT - 1)));
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_segmentOutsideDirectory_throwsDataLoadingException() throws Exception {
+        Path manifestFilePath = getSegmentDirectory().resolve("manifest.json");
+        Files.createDirectories(getSegmentDirectory());
+        Files.writeString(manifestFilePath, "{\"generation\": 1, \"segments\": [\"../addressbook.json\"]}",
+                StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveAddressBook(null));
+    }
+
+    private SegmentedAddressBookStorage createStorage() {
+        return new SegmentedAddressBookStorage(getSegmentDirectory().resolve("manifest.json"), SEGMENT_COUNT, false,
+                new AtomicFileWriter(false));
+    }
+
+    private Path getSegmentDirectory() {
+        return testFolder.resolve("addressbook.segments");
+    }
+
+    /**
+     * Returns the names of the segment files, ordered by segment.
+     */
+    private List<String> listSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(getSegmentDirectory())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(SegmentedAddressBookStorage::isSegmentFileName)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookChanges.PersonChange;
+
+public class WatchingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void checkForExternalChange_ownSave_noChanges() throws Exception {
+        WatchingAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(storage.checkForExternalChange().isPresent());
+
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(storage.checkForExternalChange().isPresent());
+    }
+
+    @Test
+    public void checkForExternalChange_ownSaveThroughStorageManager_noChanges() throws Exception {
+        WatchingAddressBookStorage addressBookStorage = createStorage();
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook();
+        assertFalse(addressBookStorage.checkForExternalChange().isPresent());
+    }
+
+    @Test
+    public void checkForExternalChange_savedOutsideApp_changesSinceLastSave() throws Exception {
+        WatchingAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook external = getTypicalAddressBook();
+        external.removePerson(ALICE);
+        external.addPerson(HOON);
+        getDataFileStorage().saveAddressBook(external);
+
+        AddressBookChanges changes = storage.checkForExternalChange().get();
+        assertEquals(List.of(new PersonChange(ALICE, null), new PersonChange(null, HOON)),
+                changes.getPersonChanges());
+
+        // The changes are reported once
+        assertFalse(storage.checkForExternalChange().isPresent());
+    }
+
+    @Test
+    public void checkForExternalChange_sameDataSavedOutsideApp_noChanges() throws Exception {
+        WatchingAddressBookStorage storage = createStorage();
+        storage.readAddressBook();
+        getDataFileStorage().saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook();
+
+        getDataFileStorage().saveAddressBook(getTypicalAddressBook());
+        assertFalse(storage.checkForExternalChange().isPresent());
+    }
+
+    @Test
+    public void checkForExternalChange_invalidFile_readOnNextChange() throws Exception {
+        WatchingAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // e.g. a file still being written
+        Files.writeString(getDataFilePath(), "{\"persons\": [", StandardCharsets.UTF_8);
+        assertFalse(storage.checkForExternalChange().isPresent());
+
+        AddressBook external = getTypicalAddressBook();
+        external.addPerson(HOON);
+        getDataFileStorage().saveAddressBook(external);
+        assertEquals(List.of(new PersonChange(null, HOON)), storage.checkForExternalChange().get().getPersonChanges());
+    }
+
+    @Test
+    public void startWatching_savedOutsideApp_handlerTold() throws Exception {
+        WatchingAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        CompletableFuture<AddressBookChanges> reported = new CompletableFuture<>();
+        storage.startWatching(reported::complete);
+        try {
+            AddressBook external = getTypicalAddressBook();
+            external.addPerson(HOON);
+            getDataFileStorage().saveAddressBook(external);
+
+            assertEquals(List.of(new PersonChange(null, HOON)),
+                    reported.get(10, TimeUnit.SECONDS).getPersonChanges());
+        } finally {
+            storage.close();
+        }
+    }
+
+    private WatchingAddressBookStorage createStorage() {
+        return new WatchingAddressBookStorage(getDataFileStorage(), 0);
+    }
+
+    /**
+     * Returns another storage over the same data file, which writes it as a tool outside the app would.
+     */
+    private JsonAddressBookStorage getDataFileStorage() {
+        return new JsonAddressBookStorage(getDataFilePath());
+    }
+
+    private Path getDataFilePath() {
+        return testFolder.resolve("addressbook.json");
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.testutil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+import seedu.address.commons.util.AtomicFileWriter;
+
+/**
+ * An {@code AtomicFileWriter} that fails as if the app crashed once {@code crashOffset} bytes of a file are written.
+ */
+public class CrashingFileWriter extends AtomicFileWriter {
+
+    private final long crashOffset;
+
+    /**
+     * Creates a writer that fails after writing {@code crashOffset} bytes of each file, and at the latest when the
+     * written content is flushed.
+     */
+    public CrashingFileWriter(boolean keepsBackup, long crashOffset) {
+        super(keepsBackup);
+        this.crashOffset = crashOffset;
+    }
+
+    @Override
+    protected OutputStream openOutputStream(FileChannel channel) {
+        OutputStream out = Channels.newOutputStream(channel);
+        return new OutputStream() {
+            private long writtenCount = 0;
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                int allowedLength = (int) Math.min(length, crashOffset - writtenCount);
+                out.write(bytes, offset, allowedLength);
+                writtenCount += allowedLength;
+                if (allowedLength < length) {
+                    throw new IOException("Simulated crash at byte " + crashOffset);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                throw new IOException("Simulated crash at byte " + writtenCount);
+            }
+        };
+    }
+}